@@ -0,0 +1,100 @@
+// 가상 스레드 모드 비교용 부하 테스트 (k6)
+//
+// 같은 서버를 spring.threads.virtual.enabled=false / true 로 한 번씩 띄우고
+// 아래 명령을 MIX 별로 돌려서 http_reqs(처리량), http_req_duration(p95/p99)을 비교
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=... -e PASSWORD=... -e POST_ID=1 -e MIX=read   loadtest/virtual-threads.js
+//   k6 run -e BASE_URL=http://localhost:8080 -e EMAIL=... -e PASSWORD=... -e POST_ID=1 -e MIX=upload loadtest/virtual-threads.js
+//
+// - MIX=read   : 목록/상세 조회 위주 (JDBC 블로킹)
+// - MIX=upload : 파일 업로드 70% + 조회 30% (presign + S3 PUT 블로킹)
+// - POST_ID는 EMAIL 계정이 작성한 게시글 (업로드 권한 필요)
+//   이번 실행에서 올린 파일(load-{실행 id}-*)은 teardown에서 삭제 (soft delete -> 유예 기간 뒤 GC가 S3에서 삭제)
+// - 고정 도착률(constant-arrival-rate)이라 서버가 밀리면 지연/dropped_iterations로 바로 보임
+// - 서버 쪽은 /actuator/metrics/jvm.threads.virtual.pinned, tomcat.threads.busy 같이 확인
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const POST_ID = __ENV.POST_ID || '1';
+const MIX = __ENV.MIX || 'read';
+const RATE = Number(__ENV.RATE || (MIX === 'upload' ? 50 : 300)); // 초당 요청 수
+const DURATION = __ENV.DURATION || '2m';
+const FILE_SIZE = Number(__ENV.FILE_SIZE || 256 * 1024);
+
+export const options = {
+    scenarios: {
+        [MIX]: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.max(50, RATE),
+            maxVUs: RATE * 10,
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const payload = new Uint8Array(FILE_SIZE).map((_, i) => i % 251).buffer;
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/users/login`,
+        JSON.stringify({ email: __ENV.EMAIL, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login ok': (r) => r.status === 201 });
+    return { token: res.json('data.token'), runId: `${Date.now()}` };
+}
+
+export default function (data) {
+    const auth = { headers: { Authorization: `Bearer ${data.token}` } };
+
+    if (MIX === 'upload' && Math.random() < 0.7) {
+        upload(auth, data.runId);
+    } else {
+        read(auth);
+    }
+}
+
+function read(auth) {
+    if (Math.random() < 0.5) {
+        const res = http.get(`${BASE_URL}/posts/list?withTotal=false&size=20`, { ...auth, tags: { name: 'list' } });
+        check(res, { 'list 200': (r) => r.status === 200 });
+    } else {
+        const res = http.get(`${BASE_URL}/posts/${POST_ID}?include=files`, { ...auth, tags: { name: 'detail' } });
+        check(res, { 'detail 200': (r) => r.status === 200 });
+    }
+}
+
+function upload(auth, runId) {
+    const body = { files: http.file(payload, `load-${runId}-${__VU}-${__ITER}.bin`, 'application/octet-stream') };
+    const res = http.post(`${BASE_URL}/posts/${POST_ID}/files`, body, { ...auth, tags: { name: 'upload' } });
+    check(res, { 'upload 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+// 이번 실행에서 올린 파일만 삭제
+export function teardown(data) {
+    if (MIX !== 'upload') {
+        return;
+    }
+    const auth = { headers: { Authorization: `Bearer ${data.token}` }, tags: { name: 'teardown' } };
+    const res = http.get(`${BASE_URL}/posts/${POST_ID}/files`, auth);
+    if (!check(res, { 'teardown list 200': (r) => r.status === 200 })) {
+        return;
+    }
+
+    const prefix = `load-${data.runId}-`;
+    const files = (res.json('data') || []).filter((f) => f.originName && f.originName.startsWith(prefix));
+    let deleted = 0;
+    for (const f of files) {
+        const del = http.del(`${BASE_URL}/posts/${POST_ID}/files/${f.id}`, null, auth);
+        if (del.status === 200) {
+            deleted++;
+        }
+    }
+    console.log(`teardown: uploaded files deleted ${deleted}/${files.length}`);
+}
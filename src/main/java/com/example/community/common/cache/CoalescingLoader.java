@@ -0,0 +1,98 @@
+package com.example.community.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Caffeine 캐시 미스 로딩을 락 밖에서 실행
+ * - cache.get(key, loader)는 loader를 ConcurrentHashMap.compute(synchronized) 안에서 돌림
+ *   -> JDK 21 가상 스레드에서 loader가 DB/HTTP로 블로킹하면 캐리어 스레드가 고정(pinning)됨
+ * - 여기서는 "로딩 중" future만 등록하고 loader는 락 밖에서, 같은 key 동시 미스는 그 future를 기다림 (한 번만 로딩)
+ * - 로딩 중에 invalidate 되면 로딩 결과는 캐시에 넣지 않음 (예전 값이 다시 들어가지 않게)
+ */
+public final class CoalescingLoader<K, V> {
+
+    private final Cache<K, V> cache;
+    private final ConcurrentMap<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    public CoalescingLoader(Cache<K, V> cache) {
+        this.cache = cache;
+    }
+
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running); // 다른 요청이 로딩 중이면 그 결과 사용
+        }
+
+        try {
+            // 등록하는 사이에 다른 요청이 채웠을 수 있음
+            V value = cache.policy().getIfPresentQuietly(key);
+            if (value == null) {
+                value = loader.apply(key);
+                V loaded = value;
+                // 아직 내 로딩이 유효할 때만 저장 (중간에 invalidate 됐으면 버림)
+                loading.computeIfPresent(key, (k, current) -> {
+                    if (current == mine && loaded != null) {
+                        cache.put(k, loaded);
+                    }
+                    return current;
+                });
+            }
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    public void invalidate(K key) {
+        loading.remove(key);
+        cache.invalidate(key);
+    }
+
+    public void invalidateAll(Iterable<? extends K> keys) {
+        keys.forEach(loading::remove);
+        cache.invalidateAll(keys);
+    }
+
+    // 캐시된 값 바꾸기 (없으면 아무것도 안 함, remapping이 null이면 삭제)
+    // 진행 중인 로딩은 바뀌기 전 값을 읽었을 수 있어서 저장 안 하게
+    public void update(K key, Function<? super V, ? extends V> remapping) {
+        loading.remove(key);
+        cache.asMap().computeIfPresent(key, (k, value) -> remapping.apply(value));
+    }
+
+    // 조건으로 지울 때 (어떤 key가 해당되는지 모르니 진행 중인 로딩은 전부 저장 안 하게)
+    public void cancelLoads() {
+        loading.clear();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime; // 원래 예외 그대로 (ResourceNotFoundException 등)
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.community.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * id별 카운터 증감분(델타)을 메모리에 쌓아두는 버퍼
+ * - 같은 id에 요청이 몰려도 LongAdder가 셀을 나눠서 더하니까 락 경합이 없음
+ * - drain()으로 쌓인 델타를 꺼내서 DB에 반영하고, 성공하면 complete(), 실패하면 restore()
+ * - 꺼낸 뒤 DB에 반영되기 전까지(in-flight)도 pending()에 포함 -> 응답 값이 잠깐 줄어들지 않게
+ */
+public class CounterBuffer {
+
+    private final ConcurrentHashMap<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    // drain 했지만 아직 DB 반영 전인 델타
+    private final ConcurrentHashMap<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    // 델타 누적 -> 아직 DB에 반영 안 된 값 반환
+    public long add(Long id, long delta) {
+        Counter counter = counters.computeIfAbsent(id, key -> new Counter());
+        counter.adder.add(delta);
+
+        // 더하는 사이에 drain이 이 카운터를 map에서 정리했으면 여기 더한 값은 아무도 flush 안 함
+        // -> 남은 값을 직접 꺼내서 새 카운터로 옮김 (drain 쪽과 sumThenReset으로 나눠 가지니까 중복 없음)
+        if (counter.retired) {
+            long moved = counter.adder.sumThenReset();
+            if (moved != 0) {
+                return add(id, moved);
+            }
+            return pending(id);
+        }
+        return counter.adder.sum() + inFlight.getOrDefault(id, 0L);
+    }
+
+    // 아직 DB에 반영 안 된 값 (버퍼 + in-flight)
+    public long pending(Long id) {
+        Counter counter = counters.get(id);
+        long buffered = counter == null ? 0L : counter.adder.sum();
+        return buffered + inFlight.getOrDefault(id, 0L);
+    }
+
+    // 쌓인 델타를 꺼내고 0으로 초기화 (꺼낸 델타는 complete/restore 전까지 in-flight)
+    public Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+
+        for (Map.Entry<Long, Counter> entry : counters.entrySet()) {
+            Long id = entry.getKey();
+            Counter counter = entry.getValue();
+
+            // in-flight에 먼저 올리고 나서 꺼냄 -> pending()이 잠깐 0으로 보이지 않게
+            long delta = counter.adder.sum();
+            if (delta != 0) {
+                inFlight.merge(id, delta, Long::sum);
+                long taken = counter.adder.sumThenReset();
+                if (taken != delta) {
+                    inFlight.merge(id, taken - delta, Long::sum);
+                }
+                if (taken != 0) {
+                    drained.put(id, taken);
+                }
+                continue;
+            }
+
+            // 한 주기 동안 변화 없던 id는 정리 (map이 계속 커지지 않게)
+            // retired 표시 후 제거 -> 그 사이 add()가 더한 값은 아래에서 꺼내거나 add()가 직접 옮김
+            if (counters.remove(id, counter)) {
+                counter.retired = true;
+                long late = counter.adder.sumThenReset();
+                if (late != 0) {
+                    add(id, late);
+                }
+            }
+        }
+        return drained;
+    }
+
+    // DB 반영 성공 -> in-flight에서 제거
+    public void complete(Map<Long, Long> deltas) {
+        deltas.forEach(this::removeInFlight);
+    }
+
+    // DB 반영 실패 시 꺼냈던 델타를 되돌림 (유실 방지)
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach((id, delta) -> {
+            add(id, delta);
+            removeInFlight(id, delta);
+        });
+    }
+
+    public boolean isEmpty() {
+        return counters.isEmpty() && inFlight.isEmpty();
+    }
+
+    private void removeInFlight(Long id, long delta) {
+        inFlight.computeIfPresent(id, (key, value) -> value - delta == 0 ? null : value - delta);
+    }
+
+    private static final class Counter {
+        private final LongAdder adder = new LongAdder();
+        private volatile boolean retired; // map에서 빠진 카운터
+    }
+}
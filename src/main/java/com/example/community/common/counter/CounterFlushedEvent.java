@@ -0,0 +1,16 @@
+package com.example.community.common.counter;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카운터 델타가 DB에 반영됐다는 이벤트
+ * (DB 값을 들고 있는 캐시가 반영된 델타만큼 더하도록)
+ * startedAt: flush 시작(drain) 시각(System.nanoTime) -> 이후에 DB 조회가 끝난 캐시 값은 이미 델타가 들어 있을 수 있음
+ */
+public record CounterFlushedEvent(CounterType type, Map<Long, Long> deltas, long startedAt) {
+
+    public Set<Long> ids() {
+        return deltas.keySet();
+    }
+}
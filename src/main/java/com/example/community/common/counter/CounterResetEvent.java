@@ -0,0 +1,10 @@
+package com.example.community.common.counter;
+
+import java.util.Set;
+
+/**
+ * 카운터 값을 델타가 아니라 실제 값으로 덮어썼다는 이벤트 (보정 작업)
+ * (DB 값을 들고 있는 캐시가 해당 id를 비우도록)
+ */
+public record CounterResetEvent(CounterType type, Set<Long> ids) {
+}
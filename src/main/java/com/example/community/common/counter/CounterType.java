@@ -0,0 +1,25 @@
+package com.example.community.common.counter;
+
+import lombok.Getter;
+
+/**
+ * 메모리에 모아뒀다가 DB에 한 번에 반영하는 카운터 종류
+ * (어떤 테이블의 어떤 컬럼에 더해질지)
+ */
+
+@Getter
+public enum CounterType {
+
+    POST_VIEW("posts", "view_count"),
+    POST_LIKE("posts", "like_count"),
+    COMMENT_LIKE("comments", "like_count"),
+    POST_COMMENT("posts", "comment_count");
+
+    private final String table;
+    private final String column;
+
+    CounterType(String table, String column) {
+        this.table = table;
+        this.column = column;
+    }
+}
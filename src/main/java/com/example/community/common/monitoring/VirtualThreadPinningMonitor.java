@@ -0,0 +1,118 @@
+package com.example.community.common.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 감지 (spring.threads.virtual.enabled=true 일 때만)
+ * - synchronized 블록 안에서 블로킹(DB, HTTP 등)하면 가상 스레드가 캐리어 스레드를 붙잡고 있음 (JDK 21)
+ *   캐리어는 CPU 코어 수만큼이라 몇 개만 고정돼도 전체 요청이 밀림
+ * - JFR jdk.VirtualThreadPinned 이벤트를 앱 안에서 스트리밍으로 받아서
+ *   메트릭 jvm.threads.virtual.pinned (site=처음 나오는 우리 코드 위치) 기록 + 위치별로 처음 한 번 스택 로그
+ */
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.example.community.";
+    private static final int LOGGED_FRAMES = 20;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Duration threshold;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${threads.pinning-monitor.enabled:true}") boolean enabled,
+            @Value("${threads.pinning-monitor.threshold-ms:20}") long thresholdMillis
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.threshold = Duration.ofMillis(thresholdMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("[VT-PINNING] 감지 시작: threshold={}ms", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = site(frames);
+
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("synchronized 등으로 캐리어 스레드가 고정된 시간")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        // 같은 위치는 처음 한 번만 스택 출력 (로그 폭주 방지)
+        if (reportedSites.add(site)) {
+            log.warn("[VT-PINNING] 가상 스레드 pinning: site={}, duration={}ms\n{}",
+                    site, event.getDuration().toMillis(), format(frames));
+        }
+    }
+
+    private static List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        return stackTrace != null ? stackTrace.getFrames() : List.of();
+    }
+
+    // 처음 나오는 우리 코드 프레임 (없으면 맨 위 프레임)
+    private static String site(List<RecordedFrame> frames) {
+        return frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .or(() -> frames.stream().findFirst())
+                .map(VirtualThreadPinningMonitor::methodName)
+                .orElse("unknown");
+    }
+
+    private static String format(List<RecordedFrame> frames) {
+        return frames.stream()
+                .limit(LOGGED_FRAMES)
+                .map(frame -> "    at " + methodName(frame) + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static String methodName(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.community.common.response;
+
+import com.example.community.common.exception.custom.BadRequestException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 목록 응답 (count 쿼리 없음)
+ * nextCursor를 그대로 다음 요청의 cursor로 넘기면 됨
+ */
+
+@Getter
+public class CursorResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final boolean hasNext;
+    private final String nextCursor;
+
+    public CursorResponse(List<T> content, int size, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    // size + 1개 조회한 결과로 응답 생성 (하나 더 있으면 다음 페이지 있음)
+    public static <T> CursorResponse<T> of(List<T> rows, int size, Function<T, Long> idExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? encodeCursor(idExtractor.apply(content.get(content.size() - 1))) : null;
+        return new CursorResponse<>(content, size, hasNext, nextCursor);
+    }
+
+    // 마지막 id -> 불투명한 커서 문자열
+    public static String encodeCursor(Long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서 문자열 -> 마지막 id
+    public static Long decodeCursor(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Long.parseLong(decoded);
+        } catch (IllegalArgumentException e) { // NumberFormatException 포함
+            throw new BadRequestException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.community.common.tx;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션이 커밋된 뒤에 실행 (롤백되면 실행 안 함)
+ * 트랜잭션 밖에서 호출하면 바로 실행
+ * - 캐시 비우기: 커밋 전에 비우면 다른 요청이 예전 값을 다시 캐시할 수 있음
+ * - 메모리 카운터/색인, 비동기 작업 등록: 롤백된 변경이 반영되지 않게
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.community.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스키마는 Flyway 마이그레이션(resources/db/migration)으로 관리
+ * - 빈 DB: V1(기본 스키마)부터 전부 실행
+ * - 예전에 ddl-auto로 만들어진 DB: V1으로 baseline 잡고 V1.1부터 실행
+ *   (V1은 Flyway 도입 전 기본 스키마 그대로, 이후 추가된 테이블/제약조건은 V1.1~ 에서 만듦)
+ * spring.flyway.* 로 바꾸면 그 값 사용
+ */
+
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayBaselineCustomizer(
+            @Value("${spring.flyway.baseline-on-migrate:true}") boolean baselineOnMigrate,
+            @Value("${spring.flyway.baseline-version:1}") String baselineVersion) {
+        return configuration -> configuration
+                .baselineOnMigrate(baselineOnMigrate)
+                .baselineVersion(baselineVersion);
+    }
+}
@@ -1,16 +1,84 @@
 package com.example.community.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Lambda(presigned URL 발급) 호출용 HTTP 클라이언트
+ * - 커넥션 풀 + keep-alive로 매 요청마다 TCP/TLS 핸드셰이크 안 하게
+ * - 연결/응답/풀 대기 타임아웃 -> Lambda 콜드 스타트가 길어져도 Tomcat 스레드를 무한정 잡지 않음
+ * - 메트릭: 요청별 http.client.requests (RestTemplateBuilder가 자동 계측), 풀 상태 httpcomponents.httpclient.pool.*
+ */
+
 @Configuration
 public class HttpClientConfig {
 
+    private static final String POOL_NAME = "lambda";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager lambdaConnectionManager(
+            @Value("${lambda.http.max-connections:50}") int maxConnections,
+            @Value("${lambda.http.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${lambda.http.connect-timeout-ms:2000}") long connectTimeoutMillis,
+            @Value("${lambda.http.read-timeout-ms:10000}") long readTimeoutMillis,
+            @Value("${lambda.http.connection-ttl-seconds:300}") long connectionTtlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxConnections)
+                .setMaxConnPerRoute(maxConnectionsPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofSeconds(connectionTtlSeconds)) // DNS 변경 등 반영되게 오래된 연결은 교체
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(2)) // 오래 놀던 연결은 쓰기 전에 확인
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME).bindTo(meterRegistry);
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient lambdaHttpClient(
+            PoolingHttpClientConnectionManager lambdaConnectionManager,
+            @Value("${lambda.http.read-timeout-ms:10000}") long readTimeoutMillis,
+            @Value("${lambda.http.pool-wait-timeout-ms:1000}") long poolWaitTimeoutMillis,
+            @Value("${lambda.http.keep-alive-seconds:30}") long keepAliveSeconds
+    ) {
+        return HttpClients.custom()
+                .setConnectionManager(lambdaConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitTimeoutMillis)) // 풀이 꽉 찼을 때 대기 시간
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMillis))
+                        .build())
+                // 서버가 Keep-Alive 헤더를 안 주면 기본값 사용
+                .setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(keepAliveSeconds))
+                .build();
+    }
+
+    // FilesService, ProfileImagesService의 Lambda 호출용
     @Bean
-    public RestTemplate restTemplate(RestTemplateBuilder builder) {
-        return builder.build();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, CloseableHttpClient lambdaHttpClient) {
+        return builder
+                .requestFactory(() -> new HttpComponentsClientHttpRequestFactory(lambdaHttpClient))
+                .build();
     }
 
 }
@@ -0,0 +1,51 @@
+package com.example.community.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JDBC 배치 INSERT/UPDATE
+ * - hibernate.jdbc.batch_size: 같은 SQL을 이 개수만큼 묶어서 한 번에 실행 (IDENTITY 엔티티는 제외됨 -> entity/IdSequences)
+ * - order_inserts/order_updates: 엔티티 종류별로 정렬해서 배치가 중간에 끊기지 않게
+ * - MySQL은 rewriteBatchedStatements=true 여야 배치가 실제로 multi-row INSERT 한 번으로 나감
+ *   (없으면 드라이버가 한 행씩 보냄) -> 설정 안 돼 있으면 Hikari 데이터소스에 추가
+ * spring.jpa.properties.hibernate.* 로 직접 주면 그 값 사용
+ */
+
+@Configuration
+public class JdbcBatchConfig {
+
+    private static final String REWRITE_BATCHED = "rewriteBatchedStatements";
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(
+            @Value("${jpa.batch-size:50}") int batchSize) {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", batchSize);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HikariDataSource dataSource
+                        && dataSource.getJdbcUrl() != null
+                        && dataSource.getJdbcUrl().startsWith("jdbc:mysql:")
+                        && !dataSource.getJdbcUrl().contains(REWRITE_BATCHED)
+                        && !dataSource.getDataSourceProperties().containsKey(REWRITE_BATCHED)) {
+                    dataSource.addDataSourceProperty(REWRITE_BATCHED, "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.community.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 replica, 나머지는 primary
+ * 트랜잭션 시작 시점에 커넥션을 잡으면 readOnly 플래그가 아직 안 정해져 있어서
+ * 반드시 LazyConnectionDataSourceProxy로 감싸서 사용 (DataSourceRoutingConfig)
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? REPLICA : PRIMARY;
+    }
+}
@@ -7,11 +7,15 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+import java.net.URI;
+
 /**
- * 지금은 이거 안쓰고있음!!!
- * 람다가 하고있음
+ * S3 클라이언트 / Presigner
+ * - storage.presign.mode=local 이면 LocalS3Presigner가 S3Presigner로 직접 서명 (기본은 Lambda)
+ * - cloud.aws.s3.endpoint, path-style-access 설정하면 LocalStack/MinIO 같은 S3 호환 서버로
  */
 
 @Configuration
@@ -26,29 +30,49 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
     ///  S3Client Bean 등록
     @Bean
     public S3Client s3Client() {
-        return S3Client.builder()
+        var builder = S3Client.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
                         )
                 )
-                .build();
+                .serviceConfiguration(s3Configuration());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 
     ///  Presigned URL 생성
     @Bean
     public S3Presigner s3Presigner() {
-        return S3Presigner.builder()
+        var builder = S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(
                         StaticCredentialsProvider.create(
                                 AwsBasicCredentials.create(accessKey, secretKey)
                         )
                 )
+                .serviceConfiguration(s3Configuration());
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    private S3Configuration s3Configuration() {
+        return S3Configuration.builder()
+                .pathStyleAccessEnabled(pathStyleAccess)
                 .build();
     }
 
@@ -0,0 +1,32 @@
+package com.example.community.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * @Scheduled 작업용 스케줄러
+ * 기본 스케줄러는 스레드 1개라서 GC처럼 오래 걸리는 작업이 카운터 flush를 막지 않게 풀로
+ * spring.threads.virtual.enabled=true 면 작업 스레드도 가상 스레드로
+ * (스케줄러 빈을 직접 만들어서 Spring Boot 자동 설정이 적용 안 되니까 여기서 맞춰줌)
+ */
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(
+            @Value("${scheduling.pool-size:4}") int poolSize,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduling-");
+        if (virtualThreads) {
+            scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-", 1).factory());
+        }
+        return scheduler;
+    }
+}
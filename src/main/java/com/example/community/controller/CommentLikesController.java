@@ -1,4 +1,86 @@
 package com.example.community.controller;
 
+import com.example.community.common.exception.custom.BadRequestException;
+import com.example.community.common.exception.custom.UnauthorizedException;
+import com.example.community.common.response.ApiResponse;
+import com.example.community.dto.response.comments.CommentLikeResponse;
+import com.example.community.entity.Users;
+import com.example.community.security.jwt.CustomUserDetails;
+import com.example.community.service.CommentLikesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/posts/{postId}/comments")
+@RequiredArgsConstructor
+@Slf4j
 public class CommentLikesController {
+
+    private static final int MAX_LIKED_LOOKUP_SIZE = 100;
+
+    private final CommentLikesService commentLikesService;
+
+    // 좋아요 수 조회 (로그인했으면 내가 눌렀는지도)
+    @GetMapping("/{commentId}/likes")
+    public ResponseEntity<ApiResponse<CommentLikeResponse>> likes(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Users users = customUserDetails != null ? customUserDetails.getUsers() : null;
+        CommentLikeResponse commentLikeResponse = commentLikesService.getLikes(postId, commentId, users);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("댓글 좋아요 조회", commentLikeResponse));
+    }
+
+    // 좋아요
+    @PostMapping("/{commentId}/likes")
+    public ResponseEntity<ApiResponse<CommentLikeResponse>> like(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        CommentLikeResponse commentLikeResponse =
+                commentLikesService.like(postId, commentId, loginUser(customUserDetails));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("댓글 좋아요", commentLikeResponse));
+    }
+
+    // 좋아요 취소
+    @DeleteMapping("/{commentId}/likes")
+    public ResponseEntity<ApiResponse<CommentLikeResponse>> unlike(
+            @PathVariable Long postId,
+            @PathVariable Long commentId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        CommentLikeResponse commentLikeResponse =
+                commentLikesService.unlike(postId, commentId, loginUser(customUserDetails));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("댓글 좋아요 취소", commentLikeResponse));
+    }
+
+    // 주어진 댓글들 중 내가 좋아요 누른 댓글 id - /likes/me?ids=1,2,3 (이 게시글 댓글만)
+    @GetMapping("/likes/me")
+    public ResponseEntity<ApiResponse<Set<Long>>> likedCommentIds(
+            @PathVariable Long postId,
+            @RequestParam List<Long> ids,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (ids.size() > MAX_LIKED_LOOKUP_SIZE) {
+            throw new BadRequestException("ids는 최대 " + MAX_LIKED_LOOKUP_SIZE + "개까지 조회할 수 있습니다.");
+        }
+        Set<Long> likedIds = commentLikesService.findLikedCommentIds(loginUser(customUserDetails), postId, ids);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("좋아요 누른 댓글", likedIds));
+    }
+
+    private Users loginUser(CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            throw new UnauthorizedException("로그인이 필요합니다.");
+        }
+        return customUserDetails.getUsers();
+    }
 }
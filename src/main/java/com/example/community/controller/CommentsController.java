@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -30,9 +31,24 @@ public class CommentsController {
     @GetMapping("/list")
     public ResponseEntity<ApiResponse<Page<CommentResponse>>> commentList(
             @PathVariable Long postId,
-            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.ASC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+
+        Users users = customUserDetails != null ? customUserDetails.getUsers() : null;
+        Page<CommentResponse> commentList = commentsService.getAllComments(pageable, postId, users);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("댓글 리스트", commentList));
+    }
+
+    // 댓글 목록 조회 (전체 개수 없이) - /list?withTotal=false
+    @GetMapping(value = "/list", params = "withTotal=false")
+    public ResponseEntity<ApiResponse<Slice<CommentResponse>>> commentListWithoutTotal(
+            @PathVariable Long postId,
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.ASC) Pageable pageable,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
 
-        Page<CommentResponse> commentList = commentsService.getAllComments(pageable, postId);
+        Users users = customUserDetails != null ? customUserDetails.getUsers() : null;
+        Slice<CommentResponse> commentList = commentsService.getAllCommentsSlice(pageable, postId, users);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.success("댓글 리스트", commentList));
     }
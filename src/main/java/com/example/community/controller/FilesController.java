@@ -1,11 +1,16 @@
 package com.example.community.controller;
 
 import com.example.community.common.response.ApiResponse;
+import com.example.community.dto.request.files.FileConfirmRequest;
+import com.example.community.dto.request.files.FilePresignRequest;
 import com.example.community.dto.response.files.FileDownloadResponse;
+import com.example.community.dto.response.files.FilePresignResponse;
 import com.example.community.dto.response.files.FileUploadResponse;
+import com.example.community.dto.response.files.FileUploadResultResponse;
 import com.example.community.entity.Users;
 import com.example.community.security.jwt.CustomUserDetails;
 import com.example.community.service.FilesService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -24,18 +29,51 @@ public class FilesController {
 
     /// 업로드 (게시글에 파일 추가)
     @PostMapping
-    public ResponseEntity<ApiResponse<List<FileUploadResponse>>> uploadPostFile(
+    public ResponseEntity<ApiResponse<List<FileUploadResultResponse>>> uploadPostFile(
             @PathVariable Long postId,
             @RequestPart("files") List<MultipartFile> files,
             @AuthenticationPrincipal CustomUserDetails customUserDetails
-    ) throws Exception {
+    ) {
 
         Users user = customUserDetails.getUsers();
 
-        List<FileUploadResponse> response = filesService.upload(files, postId, user);
+        // 파일별 성공/실패 결과
+        List<FileUploadResultResponse> response = filesService.upload(files, postId, user);
 
         return ResponseEntity.status(HttpStatus.OK)
-                .body(ApiResponse.success("파일 업로드 성공", response));
+                .body(ApiResponse.success("파일 업로드 결과", response));
+    }
+
+    /// 직접 업로드 1단계 - presigned PUT URL 발급 (파일은 클라이언트가 S3로 바로 업로드)
+    @PostMapping("/presign")
+    public ResponseEntity<ApiResponse<List<FilePresignResponse>>> presignUploads(
+            @PathVariable Long postId,
+            @Valid @RequestBody FilePresignRequest request,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+
+        Users user = customUserDetails.getUsers();
+
+        List<FilePresignResponse> response = filesService.presignUploads(postId, request, user);
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("업로드 URL 발급 성공", response));
+    }
+
+    /// 직접 업로드 2단계 - S3에 올라간 파일 확인 후 등록
+    @PostMapping("/confirm")
+    public ResponseEntity<ApiResponse<List<FileUploadResponse>>> confirmUploads(
+            @PathVariable Long postId,
+            @Valid @RequestBody FileConfirmRequest request,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+
+        Users user = customUserDetails.getUsers();
+
+        List<FileUploadResponse> response = filesService.confirmUploads(postId, request, user);
+
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("파일 등록 성공", response));
     }
 
     /// 다운로드 URL 발급
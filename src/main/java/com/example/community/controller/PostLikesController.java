@@ -1,4 +1,61 @@
 package com.example.community.controller;
 
+import com.example.community.common.exception.custom.UnauthorizedException;
+import com.example.community.common.response.ApiResponse;
+import com.example.community.dto.response.posts.PostLikeResponse;
+import com.example.community.entity.Users;
+import com.example.community.security.jwt.CustomUserDetails;
+import com.example.community.service.PostLikesService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/posts/{postId}/likes")
+@RequiredArgsConstructor
+@Slf4j
 public class PostLikesController {
+
+    private final PostLikesService postLikesService;
+
+    // 좋아요 수 조회 (로그인했으면 내가 눌렀는지도)
+    @GetMapping
+    public ResponseEntity<ApiResponse<PostLikeResponse>> likes(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Users users = customUserDetails != null ? customUserDetails.getUsers() : null;
+        PostLikeResponse postLikeResponse = postLikesService.getLikes(postId, users);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("게시글 좋아요 조회", postLikeResponse));
+    }
+
+    // 좋아요
+    @PostMapping
+    public ResponseEntity<ApiResponse<PostLikeResponse>> like(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        PostLikeResponse postLikeResponse = postLikesService.like(postId, loginUser(customUserDetails));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("게시글 좋아요", postLikeResponse));
+    }
+
+    // 좋아요 취소
+    @DeleteMapping
+    public ResponseEntity<ApiResponse<PostLikeResponse>> unlike(
+            @PathVariable Long postId,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        PostLikeResponse postLikeResponse = postLikesService.unlike(postId, loginUser(customUserDetails));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("게시글 좋아요 취소", postLikeResponse));
+    }
+
+    private Users loginUser(CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            throw new UnauthorizedException("로그인이 필요합니다.");
+        }
+        return customUserDetails.getUsers();
+    }
 }
@@ -1,20 +1,28 @@
 package com.example.community.controller;
 
+import com.example.community.common.exception.custom.UnauthenticatedException;
+import com.example.community.common.exception.custom.UnauthorizedException;
 import com.example.community.common.response.ApiResponse;
+import com.example.community.common.response.CursorResponse;
 import com.example.community.common.response.ResponseFactory;
+import com.example.community.dto.request.posts.PostInclude;
+import com.example.community.dto.request.posts.PostSearchRequest;
 import com.example.community.dto.request.posts.PostUpdateRequest;
 import com.example.community.dto.request.posts.PostWriteRequest;
 import com.example.community.dto.response.posts.PostDetailsResponse;
 import com.example.community.dto.response.posts.PostListResponse;
 import com.example.community.dto.response.posts.PostWriteResponse;
+import com.example.community.entity.Role;
 import com.example.community.entity.Users;
 import com.example.community.security.jwt.CustomUserDetails;
+import com.example.community.service.PostSearchService;
 import com.example.community.service.PostsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -32,19 +40,78 @@ import java.net.URI;
 public class PostsController {
 
     private final PostsService postsService;
+    private final PostSearchService postSearchService;
 
     // 게시글 목록 조회
+    // 목록 API 공통: include=files 면 첨부파일 목록도 같이 (페이지 단위로 한 번에 조회)
     @GetMapping("/list")
     public ResponseEntity<ApiResponse<Page<PostListResponse>>> postList(
-            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
-        Page<PostListResponse> listDTO = postsService.getAllPosts(pageable);
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String include) {
+        Page<PostListResponse> listDTO = postsService.getAllPosts(pageable, PostInclude.parse(include));
         return ResponseFactory.success(listDTO);
     }
 
-    // 게시글 상세 조회
+    // 게시글 목록 조회 (전체 개수 없이) - /posts/list?withTotal=false
+    // 총 페이지 수가 필요 없는 화면에서는 count 쿼리를 생략
+    @GetMapping(value = "/list", params = {"withTotal=false", "mode!=cursor"})
+    public ResponseEntity<ApiResponse<Slice<PostListResponse>>> postListWithoutTotal(
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String include) {
+        Slice<PostListResponse> listDTO = postsService.getAllPostsSlice(pageable, PostInclude.parse(include));
+        return ResponseFactory.success(listDTO);
+    }
+
+    // 게시글 목록 조회 (커서 기반) - /posts/list?mode=cursor&cursor={nextCursor}&size=10
+    // 전체 개수를 안 세서 무한 스크롤이나 깊은 페이지도 첫 페이지랑 비용이 같음
+    @GetMapping(value = "/list", params = "mode=cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<PostListResponse>>> postListByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String include) {
+        CursorResponse<PostListResponse> listDTO = postsService.getPostsByCursor(cursor, size, PostInclude.parse(include));
+        return ResponseFactory.success(listDTO);
+    }
+
+    // 게시글 검색 - /posts/search?title=...&content=...&nickname=...
+    // 값이 있는 조건끼리는 AND, 관련도 높은 순
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<Page<PostListResponse>>> search(
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String content,
+            @RequestParam(required = false) String nickname,
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(required = false) String include) {
+        PostSearchRequest postSearchRequest = PostSearchRequest.postSearchRequest(title, content, nickname);
+        Page<PostListResponse> listDTO = postsService.search(postSearchRequest, pageable, PostInclude.parse(include));
+        return ResponseFactory.success(listDTO);
+    }
+
+    // 검색 색인 다시 만들기 (관리자)
+    @PostMapping("/search/rebuild")
+    public ResponseEntity<ApiResponse<Void>> rebuildSearchIndex(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        if (customUserDetails == null) {
+            throw new UnauthorizedException("로그인이 필요합니다.");
+        }
+        if (customUserDetails.getUsers().getRole() != Role.ADMIN) {
+            throw new UnauthenticatedException("관리자만 사용할 수 있습니다.");
+        }
+
+        postSearchService.startRebuild();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("검색 색인 재구성 시작", null));
+    }
+
+    // 게시글 상세 조회 - /posts/{postId}?include=files,comments&commentSize=10
     @GetMapping("/{postId}")
-    public ResponseEntity<ApiResponse<PostDetailsResponse>> detail(@PathVariable Long postId) {
-        PostDetailsResponse findPostDTO = postsService.detail(postId);
+    public ResponseEntity<ApiResponse<PostDetailsResponse>> detail(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String include,
+            @RequestParam(defaultValue = "10") int commentSize,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails) {
+        Users users = customUserDetails != null ? customUserDetails.getUsers() : null;
+        PostDetailsResponse findPostDTO = postsService.detail(postId, PostInclude.parse(include), users, commentSize);
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.success("게시글 조회", findPostDTO));
     }
@@ -3,6 +3,7 @@ package com.example.community.controller;
 import com.example.community.common.response.ApiResponse;
 import com.example.community.dto.request.auth.LoginRequest;
 import com.example.community.dto.request.auth.RegisterRequest;
+import com.example.community.dto.request.posts.PostInclude;
 import com.example.community.dto.request.users.UserNicknameUpdateRequest;
 import com.example.community.dto.request.users.UserPasswordUpdateRequest;
 import com.example.community.dto.response.auth.LoginResponse;
@@ -19,6 +20,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
@@ -107,9 +109,10 @@ public class UsersController {
     @GetMapping("/myPosts")
     public ResponseEntity<ApiResponse<Page<PostListResponse>>> myPosts(
             @AuthenticationPrincipal CustomUserDetails customUserDetails,
-            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String include) {
         Users users = customUserDetails.getUsers();
-        Page<PostListResponse> listDTO = postsService.getMyPosts(pageable, users);
+        Page<PostListResponse> listDTO = postsService.getMyPosts(pageable, users, PostInclude.parse(include));
         return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponse.success("사용자 게시글 목록 조회 성공", listDTO));
     }
@@ -125,6 +128,29 @@ public class UsersController {
                 .body(ApiResponse.success("사용자 댓글 목록 조회 성공", listDTO));
     }
 
+    // 마이페이지 - 사용자별 게시글 조회 (전체 개수 없이) - /myPosts?withTotal=false
+    @GetMapping(value = "/myPosts", params = "withTotal=false")
+    public ResponseEntity<ApiResponse<Slice<PostListResponse>>> myPostsWithoutTotal(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable,
+            @RequestParam(required = false) String include) {
+        Users users = customUserDetails.getUsers();
+        Slice<PostListResponse> listDTO = postsService.getMyPostsSlice(pageable, users, PostInclude.parse(include));
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("사용자 게시글 목록 조회 성공", listDTO));
+    }
+
+    // 마이페이지 - 사용자별 댓글 조회 (전체 개수 없이) - /myComments?withTotal=false
+    @GetMapping(value = "/myComments", params = "withTotal=false")
+    public ResponseEntity<ApiResponse<Slice<CommentResponse>>> myCommentsWithoutTotal(
+            @AuthenticationPrincipal CustomUserDetails customUserDetails,
+            @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC) Pageable pageable) {
+        Users users = customUserDetails.getUsers();
+        Slice<CommentResponse> listDTO = commentsService.getMyCommentsSlice(pageable, users);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponse.success("사용자 댓글 목록 조회 성공", listDTO));
+    }
+
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<UserResponse>> me(
             @AuthenticationPrincipal CustomUserDetails customUserDetails) {
@@ -0,0 +1,53 @@
+package com.example.community.dto.request.files;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 직접 업로드 2단계 - S3에 올린 파일 등록 요청
+ * presign 때 받은 key + 원본 이름/크기
+ */
+
+@Getter
+@NoArgsConstructor
+public class FileConfirmRequest {
+
+    @Valid
+    @NotEmpty(message = "등록할 파일이 없습니다.")
+    @Size(max = 10, message = "한 번에 최대 10개까지 등록할 수 있습니다.")
+    private List<FileItem> files;
+
+    @Builder
+    public FileConfirmRequest(List<FileItem> files) {
+        this.files = files;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class FileItem {
+
+        @NotBlank(message = "key를 입력해주세요.")
+        private String key;
+
+        @NotBlank(message = "파일 이름을 입력해주세요.")
+        private String originName;
+
+        @NotNull(message = "파일 크기를 입력해주세요.")
+        private Long fileSize;
+
+        @Builder
+        public FileItem(String key, String originName, Long fileSize) {
+            this.key = key;
+            this.originName = originName;
+            this.fileSize = fileSize;
+        }
+    }
+}
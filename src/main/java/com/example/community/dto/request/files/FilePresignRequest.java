@@ -0,0 +1,55 @@
+package com.example.community.dto.request.files;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 직접 업로드 1단계 - presigned PUT URL 발급 요청
+ * 클라이언트가 올릴 파일들의 이름/타입/크기
+ */
+
+@Getter
+@NoArgsConstructor
+public class FilePresignRequest {
+
+    @Valid
+    @NotEmpty(message = "업로드할 파일이 없습니다.")
+    @Size(max = 10, message = "한 번에 최대 10개까지 업로드할 수 있습니다.")
+    private List<FileItem> files;
+
+    @Builder
+    public FilePresignRequest(List<FileItem> files) {
+        this.files = files;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    public static class FileItem {
+
+        @NotBlank(message = "파일 이름을 입력해주세요.")
+        private String originName;
+
+        @NotBlank(message = "파일 타입을 입력해주세요.")
+        private String contentType;
+
+        @NotNull(message = "파일 크기를 입력해주세요.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        private Long fileSize;
+
+        @Builder
+        public FileItem(String originName, String contentType, Long fileSize) {
+            this.originName = originName;
+            this.contentType = contentType;
+            this.fileSize = fileSize;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.community.dto.request.posts;
+
+import com.example.community.common.exception.custom.BadRequestException;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 상세/목록 응답에 같이 넣을 항목 (?include=files, ?include=files,comments)
+ * 콤마로 여러 개 지정, 대소문자 구분 없음
+ */
+public enum PostInclude {
+
+    FILES,    // 첨부파일 메타데이터
+    COMMENTS; // 댓글 첫 페이지 (상세 조회만, 목록에서는 무시)
+
+    public static Set<PostInclude> parse(String include) {
+        EnumSet<PostInclude> includes = EnumSet.noneOf(PostInclude.class);
+        if (include == null || include.isBlank()) {
+            return includes;
+        }
+
+        for (String token : include.split(",")) {
+            String name = token.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            try {
+                includes.add(PostInclude.valueOf(name.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("지원하지 않는 include 값입니다: " + name);
+            }
+        }
+        return includes;
+    }
+}
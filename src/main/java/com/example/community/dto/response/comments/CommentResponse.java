@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 
 /**
  * 댓글 조회 응답 DTO
- * 댓글 아이디 / 내용 / 닉네임 / 좋아요 수 / 작성일 / 수정일
+ * 댓글 아이디 / 내용 / 닉네임 / 좋아요 수 / 좋아요 여부 / 작성일 / 수정일
  */
 
 @Getter
@@ -22,28 +22,36 @@ public class CommentResponse extends BaseTimeEntity {
     private String content;
     private String nickname;
     private Long likeCount;
+    private boolean liked; // 로그인한 사용자가 좋아요 눌렀는지 (비로그인이면 false)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
     @Builder
-    public CommentResponse(Long id, Long postId, String content, String nickname, Long likeCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    public CommentResponse(Long id, Long postId, String content, String nickname, Long likeCount, boolean liked, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.postId = postId;
         this.content = content;
         this.nickname = nickname;
         this.likeCount = likeCount;
+        this.liked = liked;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
     }
 
     // Entity -> DTO
     public static CommentResponse fromEntity(Comments comments) {
+        return fromEntity(comments, 0L, false);
+    }
+
+    // Entity -> DTO (아직 DB에 반영 안 된 좋아요수, 좋아요 여부 포함)
+    public static CommentResponse fromEntity(Comments comments, long pendingLikeCount, boolean liked) {
         return CommentResponse.builder()
                 .id(comments.getId())
                 .postId(comments.getPosts().getId()) // 게시글이랑 댓글 연결
                 .content(comments.getContent())
                 .nickname(comments.getUsers().getNickname()) // Users 엔티티 참조
-                .likeCount(comments.getLikeCount())
+                .likeCount(Math.max(comments.getLikeCount() + pendingLikeCount, 0L))
+                .liked(liked)
                 .createdAt(comments.getCreatedAt())
                 .updatedAt(comments.getUpdatedAt())
                 .build();
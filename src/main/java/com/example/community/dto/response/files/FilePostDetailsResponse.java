@@ -1,11 +1,13 @@
 package com.example.community.dto.response.files;
 
 import com.example.community.entity.Files;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
@@ -15,23 +17,43 @@ public class FilePostDetailsResponse {
     private String originName;
     private String fileType;
     private String url;
+    private String thumbnailUrl; // 이미지 썸네일 (없으면 null)
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, String> variants; // 변환본 이름(w128, w128-webp, w512 ...) -> URL, 없으면 응답에서 빠짐
+
     private LocalDateTime uploadedAt;
 
     @Builder
-    public FilePostDetailsResponse(Long id, String originName, String fileType, String url, LocalDateTime uploadedAt) {
+    public FilePostDetailsResponse(Long id, String originName, String fileType, String url,
+                                   String thumbnailUrl, Map<String, String> variants, LocalDateTime uploadedAt) {
         this.id = id;
         this.originName = originName;
         this.fileType = fileType;
         this.url = url;
+        this.thumbnailUrl = thumbnailUrl;
+        this.variants = variants;
         this.uploadedAt = uploadedAt;
     }
 
     public static FilePostDetailsResponse fromEntity(Files files) {
+        return fromEntity(files, null);
+    }
+
+    public static FilePostDetailsResponse fromEntity(Files files, String thumbnailUrl) {
+        return fromEntity(files, thumbnailUrl, null);
+    }
+
+    // url은 다운로드 URL 발급 API (presigned URL은 만료되니까 여기엔 안 넣음)
+    public static FilePostDetailsResponse fromEntity(Files files, String thumbnailUrl, Map<String, String> variants) {
         return FilePostDetailsResponse.builder()
                 .id(files.getId())
                 .originName(files.getOriginName())
                 .fileType(files.getFileType())
-                .url("/api/files/" + files.getId() + "/download")
+                .url("/posts/" + files.getPosts().getId() + "/files/" + files.getId() + "/download-url")
+                .thumbnailUrl(thumbnailUrl)
+                .variants(variants)
+                .uploadedAt(files.getCreatedAt())
                 .build();
     }
 
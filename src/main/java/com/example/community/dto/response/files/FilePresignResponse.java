@@ -0,0 +1,37 @@
+package com.example.community.dto.response.files;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 직접 업로드용 presigned PUT URL
+ * 클라이언트는 uploadUrl로 바로 PUT (Content-Type은 요청 때 보낸 값 그대로) 후 key로 confirm
+ */
+
+@Getter
+@NoArgsConstructor
+public class FilePresignResponse {
+
+    private String originName;
+    private String key;
+    private String uploadUrl;
+    private Long expireSeconds;
+
+    @Builder
+    public FilePresignResponse(String originName, String key, String uploadUrl, Long expireSeconds) {
+        this.originName = originName;
+        this.key = key;
+        this.uploadUrl = uploadUrl;
+        this.expireSeconds = expireSeconds;
+    }
+
+    public static FilePresignResponse of(String originName, LambdaUploadResponse presigned) {
+        return FilePresignResponse.builder()
+                .originName(originName)
+                .key(presigned.getKey())
+                .uploadUrl(presigned.getUploadUrl())
+                .expireSeconds(presigned.getExpireSeconds())
+                .build();
+    }
+}
@@ -1,11 +1,13 @@
 package com.example.community.dto.response.files;
 
 import com.example.community.entity.Files;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @NoArgsConstructor
@@ -15,24 +17,41 @@ public class FileUploadResponse {
     private String originName;
     private String fileType;
     private String fileUrl;
+    private String thumbnailUrl; // 이미지 썸네일 (아직 없거나 이미지가 아니면 null)
+
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private Map<String, String> variants; // 변환본 이름(w128, w128-webp, w512 ...) -> URL, 없으면 응답에서 빠짐
+
     private LocalDateTime uploadedAt;
 
     @Builder
     public FileUploadResponse(Long id, String originName, String fileType,
-                              String fileUrl, LocalDateTime uploadedAt) {
+                              String fileUrl, String thumbnailUrl, Map<String, String> variants, LocalDateTime uploadedAt) {
         this.id = id;
         this.originName = originName;
         this.fileType = fileType;
         this.fileUrl = fileUrl;
+        this.thumbnailUrl = thumbnailUrl;
+        this.variants = variants;
         this.uploadedAt = uploadedAt;
     }
 
     public static FileUploadResponse fromEntity(Files files) {
+        return fromEntity(files, null);
+    }
+
+    public static FileUploadResponse fromEntity(Files files, String thumbnailUrl) {
+        return fromEntity(files, thumbnailUrl, null);
+    }
+
+    public static FileUploadResponse fromEntity(Files files, String thumbnailUrl, Map<String, String> variants) {
         return FileUploadResponse.builder()
                 .id(files.getId())
                 .originName(files.getOriginName())
                 .fileType(files.getFileType())
                 .fileUrl(files.getFileUrl())
+                .thumbnailUrl(thumbnailUrl)
+                .variants(variants)
                 .uploadedAt(files.getCreatedAt())
                 .build();
     }
@@ -0,0 +1,44 @@
+package com.example.community.dto.response.files;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 여러 파일 업로드 시 파일별 결과
+ * 성공하면 file에 업로드 정보, 실패하면 errorMessage에 사유
+ */
+
+@Getter
+@NoArgsConstructor
+public class FileUploadResultResponse {
+
+    private String originName;
+    private boolean success;
+    private FileUploadResponse file;
+    private String errorMessage;
+
+    @Builder
+    public FileUploadResultResponse(String originName, boolean success, FileUploadResponse file, String errorMessage) {
+        this.originName = originName;
+        this.success = success;
+        this.file = file;
+        this.errorMessage = errorMessage;
+    }
+
+    public static FileUploadResultResponse success(FileUploadResponse file) {
+        return FileUploadResultResponse.builder()
+                .originName(file.getOriginName())
+                .success(true)
+                .file(file)
+                .build();
+    }
+
+    public static FileUploadResultResponse failure(String originName, String errorMessage) {
+        return FileUploadResultResponse.builder()
+                .originName(originName)
+                .success(false)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -1,16 +1,22 @@
 package com.example.community.dto.response.posts;
 
 
+import com.example.community.dto.response.comments.CommentResponse;
+import com.example.community.dto.response.files.FilePostDetailsResponse;
 import com.example.community.entity.Posts;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 게시글 상세 조회
  * 게시글 아이디 / 제목 / 내용 / 닉네임 / 조회수 / 좋아요수 / 댓글수 / 작성일 / 수정일
+ * (include=files 일 때만 첨부파일 목록, include=comments 일 때만 댓글 첫 페이지 + 다음 페이지 여부)
  */
 
 @Getter
@@ -27,8 +33,22 @@ public class PostDetailsResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @Builder
-    public PostDetailsResponse(Long id, String title, String content, String nickname, Long viewCount, Long likeCount, Long commentCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<FilePostDetailsResponse> files; // include=files 아니면 null -> 응답에서 빠짐
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CommentResponse> comments; // include=comments 아니면 null -> 응답에서 빠짐
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean hasMoreComments;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCommentsUrl; // 다음 댓글 페이지 (page=1, size=commentSize) - 더 없으면 null
+
+    @Builder(toBuilder = true)
+    public PostDetailsResponse(Long id, String title, String content, String nickname, Long viewCount, Long likeCount, Long commentCount, LocalDateTime createdAt, LocalDateTime updatedAt,
+                               List<FilePostDetailsResponse> files, List<CommentResponse> comments, Boolean hasMoreComments,
+                               String nextCommentsUrl) {
         this.id = id;
         this.title = title;
         this.content = content;
@@ -38,10 +58,24 @@ public class PostDetailsResponse {
         this.commentCount = commentCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.files = files;
+        this.comments = comments;
+        this.hasMoreComments = hasMoreComments;
+        this.nextCommentsUrl = nextCommentsUrl;
     }
 
     // Entity -> DTO
     public static PostDetailsResponse fromEntity(Posts posts) {
+        return fromEntity(posts, 0L);
+    }
+
+    // Entity -> DTO (아직 DB에 반영 안 된 조회수까지 포함)
+    public static PostDetailsResponse fromEntity(Posts posts, long pendingViewCount) {
+        return fromEntity(posts, pendingViewCount, 0L, 0L);
+    }
+
+    // Entity -> DTO (아직 DB에 반영 안 된 조회수, 좋아요수, 댓글수까지 포함)
+    public static PostDetailsResponse fromEntity(Posts posts, long pendingViewCount, long pendingLikeCount, long pendingCommentCount) {
         return PostDetailsResponse.builder()
                 .id(posts.getId())
                 .title(posts.getTitle())
@@ -52,6 +86,34 @@ public class PostDetailsResponse {
                 .commentCount(posts.getCommentCount())
                 .createdAt(posts.getCreatedAt())
                 .updatedAt(posts.getUpdatedAt())
+                .build()
+                .withPendingCounts(pendingViewCount, pendingLikeCount, pendingCommentCount);
+    }
+
+    // 캐시된(DB 기준) 응답에 아직 반영 안 된 카운터 델타 더하기 -> 새 객체 (캐시 값은 그대로)
+    public PostDetailsResponse withPendingCounts(long pendingViewCount, long pendingLikeCount, long pendingCommentCount) {
+        return toBuilder()
+                .viewCount(Math.max(viewCount + pendingViewCount, 0L))
+                .likeCount(Math.max(likeCount + pendingLikeCount, 0L))
+                .commentCount(Math.max(commentCount + pendingCommentCount, 0L))
+                .build();
+    }
+
+    // 첨부파일 붙인 새 객체 (캐시 값은 그대로)
+    public PostDetailsResponse withFiles(List<FilePostDetailsResponse> files) {
+        return toBuilder().files(files).build();
+    }
+
+    // 댓글 첫 페이지 붙인 새 객체 (캐시 값은 그대로)
+    // 다음 페이지는 같은 크기로 이어서 받아야 겹치거나 빠지는 댓글이 없음 -> size까지 넣은 URL
+    public PostDetailsResponse withComments(Slice<CommentResponse> comments) {
+        String next = comments.hasNext()
+                ? "/posts/" + id + "/comments/list?withTotal=false&page=1&size=" + comments.getSize()
+                : null;
+        return toBuilder()
+                .comments(comments.getContent())
+                .hasMoreComments(comments.hasNext())
+                .nextCommentsUrl(next)
                 .build();
     }
 
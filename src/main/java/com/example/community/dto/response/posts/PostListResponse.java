@@ -1,15 +1,19 @@
 package com.example.community.dto.response.posts;
 
+import com.example.community.dto.response.files.FilePostDetailsResponse;
 import com.example.community.entity.Posts;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
 * 리스트
-* 게시글 아이디 / 제목 / 닉네임 / 조회수 / 작성일
+* 게시글 아이디 / 제목 / 닉네임 / 조회수 / 댓글수 / 작성일
+* (include=files 일 때만 첨부파일 목록)
  */
 
 @Getter
@@ -20,17 +24,29 @@ public class PostListResponse {
     private String title;
     private String nickname;
     private Long viewCount;
+    private Long commentCount; // posts.comment_count (COUNT 쿼리 없이 컬럼 그대로)
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
-    @Builder
-    public PostListResponse(Long id, String title, String nickname, Long viewCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<FilePostDetailsResponse> files; // include=files 아니면 null -> 응답에서 빠짐
+
+    @Builder(toBuilder = true)
+    public PostListResponse(Long id, String title, String nickname, Long viewCount, Long commentCount, LocalDateTime createdAt, LocalDateTime updatedAt,
+                            List<FilePostDetailsResponse> files) {
         this.id = id;
         this.title = title;
         this.nickname = nickname;
         this.viewCount = viewCount;
+        this.commentCount = commentCount;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
+        this.files = files;
+    }
+
+    // JPQL 생성자 프로젝션용 (PostsRepository.LIST_SELECT)
+    public PostListResponse(Long id, String title, String nickname, Long viewCount, Long commentCount, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, nickname, viewCount, commentCount, createdAt, updatedAt, null);
     }
 
     // Entity -> DTO
@@ -40,9 +56,15 @@ public class PostListResponse {
                 .title(posts.getTitle())
                 .nickname(posts.getUsers().getNickname())
                 .viewCount(posts.getViewCount())
+                .commentCount(posts.getCommentCount())
                 .createdAt(posts.getCreatedAt())
                 .updatedAt(posts.getUpdatedAt())
                 .build();
     }
 
+    // 첨부파일 붙인 새 객체
+    public PostListResponse withFiles(List<FilePostDetailsResponse> files) {
+        return toBuilder().files(files).build();
+    }
+
 }
@@ -13,24 +13,31 @@ public class UserResponse {
     private String email;
     private String nickname;
     private String profileImageUrl;
+    private String profileThumbnailUrl; // 프로필 썸네일 (아직 없으면 null)
     private String role;
 
     @Builder
-    public UserResponse(Long id, String email, String nickname, String profileImageUrl, String role) {
+    public UserResponse(Long id, String email, String nickname, String profileImageUrl, String profileThumbnailUrl, String role) {
         this.id = id;
         this.email = email;
         this.nickname = nickname;
         this.profileImageUrl = profileImageUrl;
+        this.profileThumbnailUrl = profileThumbnailUrl;
         this.role = role;
     }
 
     // Entity -> DTO 변환
     public static UserResponse fromEntity(Users users) {
+        return fromEntity(users, null);
+    }
+
+    public static UserResponse fromEntity(Users users, String profileThumbnailUrl) {
         return UserResponse.builder()
                 .id(users.getId())
                 .email(users.getEmail())
                 .nickname(users.getNickname())
                 .profileImageUrl(users.getProfileImageUrl())
+                .profileThumbnailUrl(profileThumbnailUrl)
                 .role(users.getRole() != null ? users.getRole().name() : null) // 흠...
                 .build();
     }
@@ -11,6 +11,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "comment_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_comment_likes_user_comment", columnNames = {"user_id", "comment_id"}),
+        indexes = @Index(name = "idx_comment_likes_comment", columnList = "comment_id"))
 public class CommentLikes extends BaseTimeEntity {
 
     @Id
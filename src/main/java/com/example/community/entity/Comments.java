@@ -16,6 +16,10 @@ import java.time.LocalDateTime;
 @Entity
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "comments", indexes = {
+        @Index(name = "idx_comments_post_deleted_id", columnList = "post_id, deleted_at, id"),
+        @Index(name = "idx_comments_user_deleted_id", columnList = "user_id, deleted_at, id")
+})
 @Where(clause = "deleted_at IS NULL")
 @SQLDelete(sql = "UPDATE comments SET deleted_at = NOW() WHERE id = ?")
 public class Comments extends BaseTimeEntity {
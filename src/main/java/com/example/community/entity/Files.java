@@ -12,12 +12,20 @@ import java.time.LocalDateTime;
 
 @Entity
 @Getter @NoArgsConstructor
+@Table(name = "files", indexes = {
+        @Index(name = "idx_files_post_deleted_id", columnList = "post_id, deleted_at, id"),
+        @Index(name = "idx_files_s3_key", columnList = "s3_key"),
+        @Index(name = "idx_files_deleted_at", columnList = "deleted_at")
+})
 @Where(clause = "deleted_at IS NULL")
 @SQLDelete(sql = "UPDATE files SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 public class Files extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "files_id")
+    @TableGenerator(name = "files_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.SEGMENT_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "files", allocationSize = IdSequences.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, name = "origin_name")
@@ -0,0 +1,21 @@
+package com.example.community.entity;
+
+/**
+ * 여러 행을 한 번에 저장하는 엔티티용 id 채번 테이블 (V3 마이그레이션)
+ * - IDENTITY는 INSERT 해봐야 id를 알 수 있어서 Hibernate가 JDBC 배치를 못 씀
+ * - 테이블에서 ALLOCATION_SIZE 만큼 id 구간을 한 번에 받아두고(pooled) 메모리에서 나눠줌
+ *   -> INSERT는 hibernate.jdbc.batch_size 단위로 묶여서 나감 (JdbcBatchConfig)
+ * 엔티티마다 SEGMENT 행이 하나씩 (pkColumnValue = 테이블 이름)
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String SEGMENT_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+
+    // 한 번에 받아오는 id 개수, 배치 크기와 맞춤 (재시작하면 남은 구간은 건너뜀)
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdSequences() {
+    }
+}
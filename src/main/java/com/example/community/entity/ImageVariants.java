@@ -0,0 +1,66 @@
+package com.example.community.entity;
+
+import com.example.community.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 원본 이미지(source_key)로 만든 썸네일/리사이즈 이미지
+ * variant: "w128", "w512", "w128-webp" 처럼 (최대 변 길이 + 포맷)
+ */
+
+@Getter
+@Entity
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "image_variants",
+        uniqueConstraints = @UniqueConstraint(name = "uk_image_variants_source_variant", columnNames = {"source_key", "variant"}))
+public class ImageVariants extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "image_variants_id")
+    @TableGenerator(name = "image_variants_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.SEGMENT_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "image_variants", allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, name = "source_key", length = 512)
+    private String sourceKey;
+
+    @Column(nullable = false, length = 30)
+    private String variant;
+
+    @Column(nullable = false, name = "s3_key", length = 512)
+    private String s3Key;
+
+    @Column(nullable = false, name = "file_url", length = 1024)
+    private String fileUrl;
+
+    @Column(nullable = false, name = "content_type", length = 50)
+    private String contentType;
+
+    @Column(nullable = false)
+    private Integer width;
+
+    @Column(nullable = false)
+    private Integer height;
+
+    @Column(nullable = false, name = "file_size")
+    private Long fileSize;
+
+    @Builder
+    public ImageVariants(String sourceKey, String variant, String s3Key, String fileUrl,
+                         String contentType, Integer width, Integer height, Long fileSize) {
+        this.sourceKey = sourceKey;
+        this.variant = variant;
+        this.s3Key = s3Key;
+        this.fileUrl = fileUrl;
+        this.contentType = contentType;
+        this.width = width;
+        this.height = height;
+        this.fileSize = fileSize;
+    }
+}
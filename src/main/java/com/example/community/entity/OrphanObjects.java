@@ -0,0 +1,50 @@
+package com.example.community.entity;
+
+import com.example.community.common.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+/**
+ * 더 이상 참조되지 않는 S3 객체 (교체/삭제된 프로필 이미지 등)
+ * StorageGarbageCollector가 유예 기간 지난 뒤 S3에서 지우고 행도 삭제
+ */
+
+@Getter
+@Entity
+@NoArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+@Table(name = "orphan_objects", indexes = {
+        @Index(name = "idx_orphan_objects_created_at", columnList = "created_at"),
+        @Index(name = "idx_orphan_objects_s3_key", columnList = "s3_key")
+})
+public class OrphanObjects extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "orphan_objects_id")
+    @TableGenerator(name = "orphan_objects_id", table = IdSequences.TABLE,
+            pkColumnName = IdSequences.SEGMENT_COLUMN, valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = "orphan_objects", allocationSize = IdSequences.ALLOCATION_SIZE)
+    private Long id;
+
+    @Column(nullable = false, name = "s3_key", length = 512)
+    private String s3Key;
+
+    @Column(nullable = false, length = 30)
+    private String source; // "profile", "variant", "pending-upload"(presign 후 확인 전), "uploading"(서버 경유 업로드 중) 등 어디서 나온 객체인지
+
+    @Builder
+    public OrphanObjects(String s3Key, String source) {
+        this.s3Key = s3Key;
+        this.source = source;
+    }
+
+    public static OrphanObjects of(String s3Key, String source) {
+        return OrphanObjects.builder()
+                .s3Key(s3Key)
+                .source(source)
+                .build();
+    }
+}
@@ -15,6 +15,9 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Entity
 @NoArgsConstructor
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "post_likes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_post_likes_user_post", columnNames = {"user_id", "post_id"}),
+        indexes = @Index(name = "idx_post_likes_post", columnList = "post_id"))
 public class PostLikes extends BaseTimeEntity {
 
     @Id
@@ -15,6 +15,10 @@ import java.util.List;
 @Getter
 @Entity
 @NoArgsConstructor
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_deleted_id", columnList = "deleted_at, id"),
+        @Index(name = "idx_posts_user_deleted_id", columnList = "user_id, deleted_at, id")
+})
 @SQLDelete(sql = "UPDATE posts SET deleted_at = CURRENT_TIMESTAMP WHERE id = ?")
 @Where(clause = "deleted_at IS NULL")
 public class Posts extends BaseTimeEntity {
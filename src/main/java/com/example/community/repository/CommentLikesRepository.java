@@ -2,8 +2,13 @@ package com.example.community.repository;
 
 import com.example.community.entity.*;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -22,4 +27,28 @@ public interface CommentLikesRepository extends JpaRepository<CommentLikes, Long
     // 4. 회원 탈퇴 시 유저가 누른 좋아요도 삭제
     void deleteByUsers(Users users);
 
+    // 5. 좋아요 (이미 눌렀으면 unique 키에 걸려서 무시됨) -> 실제로 추가된 행 수 반환 (0 or 1)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO comment_likes (user_id, comment_id, created_at, updated_at) " +
+            "VALUES (:userId, :commentId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 6. 좋아요 취소 -> 실제로 삭제된 행 수 반환 (0 or 1)
+    @Modifying
+    @Query("DELETE FROM CommentLikes cl WHERE cl.users.id = :userId AND cl.comments.id = :commentId")
+    int deleteByUserIdAndCommentId(@Param("userId") Long userId, @Param("commentId") Long commentId);
+
+    // 7. 좋아요 여부 (엔티티 로딩 없이)
+    boolean existsByUsersIdAndCommentsId(Long userId, Long commentId);
+
+    // 8. 주어진 댓글들 중 유저가 좋아요 누른 댓글 id (댓글 한 페이지에 쿼리 한 번)
+    @Query("SELECT cl.comments.id FROM CommentLikes cl WHERE cl.users.id = :userId AND cl.comments.id IN :commentIds")
+    List<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
+    // 9. 8번과 같은데 해당 게시글 댓글만 (다른 게시글 댓글 id가 섞여 와도 무시)
+    @Query("SELECT c.id FROM CommentLikes cl JOIN cl.comments c " +
+            "WHERE cl.users.id = :userId AND c.posts.id = :postId AND c.id IN :commentIds")
+    List<Long> findLikedCommentIdsInPost(@Param("userId") Long userId, @Param("postId") Long postId,
+                                         @Param("commentIds") Collection<Long> commentIds);
+
 }
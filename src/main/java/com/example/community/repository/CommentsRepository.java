@@ -4,6 +4,7 @@ import com.example.community.entity.Comments;
 import com.example.community.entity.Users;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -25,11 +26,26 @@ public interface CommentsRepository extends JpaRepository<Comments, Long> {
     Page<Comments> findAllByPostIdWithUsers(@Param("postId") Long postId, Pageable pageable);
 
     // 1-2. 댓글 상세 조회
-    // 게시글 상세 조회 했을때 게시글과 댓글 같이 보여주려고 -> Service에서 합쳐야함
+    // (게시글 상세 + 댓글 첫 페이지는 PostsService.detail에서 include=comments 로 합침 -> 1-4 사용)
     @Query(value = "SELECT c FROM Comments c JOIN FETCH c.users WHERE c.id = :id")
     Optional<Comments> findByIdWithUsers(@Param("id") Long id);
 
     // 1-3. 사용자별 댓글 조회
     Page<Comments> findAllByUsers(Pageable pageable, Users users);
 
+    // 1-4. 전체 개수 없이 목록만 (Slice -> size + 1개만 조회하고 count 쿼리 안 나감)
+    @Query("""
+        SELECT c
+        FROM Comments c
+        JOIN FETCH c.users
+        WHERE c.posts.id = :postId
+        """)
+    Slice<Comments> findSliceByPostIdWithUsers(@Param("postId") Long postId, Pageable pageable);
+
+    Slice<Comments> findSliceByUsers(Users users, Pageable pageable);
+
+    // 2. 좋아요 수만 조회 (해당 게시글의 댓글인지 확인 겸용, 삭제된 댓글은 empty)
+    @Query("SELECT c.likeCount FROM Comments c WHERE c.id = :commentId AND c.posts.id = :postId")
+    Optional<Long> findLikeCountByIdAndPostId(@Param("commentId") Long commentId, @Param("postId") Long postId);
+
 }
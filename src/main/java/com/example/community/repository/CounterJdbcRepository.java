@@ -0,0 +1,92 @@
+package com.example.community.repository;
+
+import com.example.community.common.counter.CounterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메모리에 모아둔 카운터 델타를 DB에 한 번에 반영
+ * JPQL 벌크 업데이트는 한 줄씩 나가서 JdbcTemplate batch로 처리
+ */
+
+@Repository
+@RequiredArgsConstructor
+public class CounterJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 델타 반영 (하나의 트랜잭션 + batch UPDATE)
+    // id 순으로 정렬해서 락 잡는 순서를 고정 -> 데드락 방지
+    @Transactional
+    public void addDeltas(CounterType type, Map<Long, Long> deltas) {
+        String column = type.getColumn();
+        String sql = "UPDATE " + type.getTable()
+                + " SET " + column + " = GREATEST(" + column + " + ?, 0)"
+                + " WHERE id = ?";
+
+        List<Object[]> args = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+
+        jdbcTemplate.batchUpdate(sql, args);
+    }
+
+    // 보정: comment_count를 실제 댓글 수로 덮어쓰기 (한 문장 안에서 세고 바로 씀 -> 읽고 쓰는 사이 틈 없음)
+    // settledBefore 이후에 작성/삭제된 댓글이 있는 게시글은 건너뜀
+    // (커밋됐지만 afterCommit 델타가 아직 버퍼에 안 들어간 댓글 -> 덮어쓴 뒤 델타가 또 더해지면 이중 반영)
+    // 실제로 바뀐 행 수 반환
+    @Transactional
+    public int resetCommentCounts(Collection<Long> postIds, LocalDateTime settledBefore) {
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        String actual = "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.deleted_at IS NULL)";
+        String placeholders = String.join(",", Collections.nCopies(postIds.size(), "?"));
+        String sql = "UPDATE posts p"
+                + " SET p.comment_count = " + actual
+                + " WHERE p.id IN (" + placeholders + ")"
+                + " AND p.comment_count <> " + actual
+                + " AND NOT EXISTS (SELECT 1 FROM comments r WHERE r.post_id = p.id"
+                + " AND (r.created_at > ? OR r.deleted_at > ?))";
+
+        List<Object> args = new ArrayList<>(postIds.stream().sorted().toList());
+        args.add(settledBefore);
+        args.add(settledBefore);
+        return jdbcTemplate.update(sql, args.toArray());
+    }
+
+    // 보정: (fromId, toId] 구간에서 comment_count가 실제 댓글 수와 다른 게시글 -> id, 실제 댓글 수
+    public Map<Long, Long> findCommentCountDrift(long fromId, long toId) {
+        String sql = "SELECT p.id, COUNT(c.id) AS actual"
+                + " FROM posts p"
+                + " LEFT JOIN comments c ON c.post_id = p.id AND c.deleted_at IS NULL"
+                + " WHERE p.id > ? AND p.id <= ? AND p.deleted_at IS NULL"
+                + " GROUP BY p.id, p.comment_count"
+                + " HAVING COUNT(c.id) <> p.comment_count";
+
+        Map<Long, Long> drift = new HashMap<>();
+        jdbcTemplate.query(sql,
+                rs -> {
+                    drift.put(rs.getLong(1), rs.getLong(2));
+                },
+                fromId, toId);
+        return drift;
+    }
+
+    // 테이블의 가장 큰 id (보정 구간 끝)
+    public long findMaxId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+}
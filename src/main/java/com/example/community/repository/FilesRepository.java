@@ -2,11 +2,40 @@ package com.example.community.repository;
 
 import com.example.community.entity.Files;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface FilesRepository extends JpaRepository<Files, Long> {
 
     List<Files> findByPostsId(Long postsId);
 
+    // 여러 게시글의 첨부파일 한 번에 (목록 include=files)
+    List<Files> findByPostsIdInOrderByIdAsc(Collection<Long> postsIds);
+
+    // 같은 S3 객체가 이미 등록됐는지 (직접 업로드 confirm 중복 방지)
+    boolean existsByS3Key(String s3Key);
+
+    // GC: soft delete 후 cutoff 이전에 삭제된 파일 (@Where 때문에 native로 조회)
+    @Query(value = "SELECT id, s3_key AS s3Key FROM files " +
+            "WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff " +
+            "ORDER BY id LIMIT :limit", nativeQuery = true)
+    List<DeletedFileRow> findDeletedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // GC: S3 객체까지 지운 파일 행 완전 삭제
+    @Transactional
+    @Modifying
+    @Query(value = "DELETE FROM files WHERE id IN (:ids) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int hardDeleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface DeletedFileRow {
+        Long getId();
+        String getS3Key();
+    }
+
 }
@@ -0,0 +1,15 @@
+package com.example.community.repository;
+
+import com.example.community.entity.ImageVariants;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageVariantsRepository extends JpaRepository<ImageVariants, Long> {
+
+    // 원본 여러 개의 변환본 한 번에 (목록 응답용)
+    List<ImageVariants> findBySourceKeyIn(Collection<String> sourceKeys);
+
+    List<ImageVariants> findBySourceKey(String sourceKey);
+}
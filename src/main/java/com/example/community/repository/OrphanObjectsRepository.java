@@ -0,0 +1,18 @@
+package com.example.community.repository;
+
+import com.example.community.entity.OrphanObjects;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OrphanObjectsRepository extends JpaRepository<OrphanObjects, Long> {
+
+    // GC 대상: 유예 기간 지난 것부터 id 순으로
+    List<OrphanObjects> findByCreatedAtBeforeOrderByIdAsc(LocalDateTime cutoff, Pageable pageable);
+
+    // 직접 업로드 확인 시 발급 기록(pending-upload) 조회
+    List<OrphanObjects> findByS3KeyInAndSource(Collection<String> s3Keys, String source);
+}
@@ -4,6 +4,9 @@ import com.example.community.entity.PostLikes;
 import com.example.community.entity.Posts;
 import com.example.community.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -26,4 +29,18 @@ public interface PostLikesRepository  extends JpaRepository<PostLikes, Long> {
 
     // 5. 좋아요 누른 유저 목록 -> 꼭 해야될까 .. ???
 
+    // 6. 좋아요 (이미 눌렀으면 unique 키에 걸려서 무시됨) -> 실제로 추가된 행 수 반환 (0 or 1)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_likes (user_id, post_id, created_at, updated_at) " +
+            "VALUES (:userId, :postId, NOW(), NOW())", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 7. 좋아요 취소 -> 실제로 삭제된 행 수 반환 (0 or 1)
+    @Modifying
+    @Query("DELETE FROM PostLikes pl WHERE pl.users.id = :userId AND pl.posts.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 8. 좋아요 여부 (엔티티 로딩 없이)
+    boolean existsByUsersIdAndPostsId(Long userId, Long postId);
+
 }
@@ -1,48 +1,90 @@
 package com.example.community.repository;
 
+import com.example.community.dto.response.posts.PostListResponse;
 import com.example.community.entity.Posts;
-import com.example.community.entity.Users;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PostsRepository extends JpaRepository<Posts, Long> {
 
+    // 목록용 프로젝션: 목록에 필요한 컬럼만 바로 PostListResponse로
+    // (content(LONGTEXT), 작성자 전체 행, 영속 엔티티 없이)
+    String LIST_SELECT = "SELECT new com.example.community.dto.response.posts.PostListResponse("
+            + "p.id, p.title, u.nickname, p.viewCount, p.commentCount, p.createdAt, p.updatedAt) "
+            + "FROM Posts p JOIN p.users u";
+
     // 1. 게시글 조회
     // 1-1. 게시글 전체 조회
-    @Query(value = "SELECT p FROM Posts p JOIN FETCH p.users")
-    Page<Posts> findAllWithUsers(Pageable pageable);
+    @Query(value = LIST_SELECT,
+            countQuery = "SELECT COUNT(p) FROM Posts p")
+    Page<PostListResponse> findList(Pageable pageable);
 
     // 1-2. 게시글 상세 조회
     @Query("select p from Posts p join fetch p.users where p.id = :postId")
     Optional<Posts> findByIdWithUsers(@Param("postId") Long postId);
 
     // 1-3. 사용자별 게시글 조회
-    Page<Posts> findAllByUsers(Pageable pageable, Users users);
+    @Query(value = LIST_SELECT + " WHERE u.id = :userId",
+            countQuery = "SELECT COUNT(p) FROM Posts p WHERE p.users.id = :userId")
+    Page<PostListResponse> findListByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 1-4. 게시글 목록 (커서 기반)
+    // count 쿼리, OFFSET 없이 id 기준으로 바로 찾아가서 깊은 페이지도 첫 페이지랑 비용이 같음
+    @Query(LIST_SELECT + " ORDER BY p.id DESC")
+    List<PostListResponse> findLatestList(Pageable pageable);
+
+    @Query(LIST_SELECT + " WHERE p.id < :cursorId ORDER BY p.id DESC")
+    List<PostListResponse> findListByIdLessThan(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 검색 색인 재구성용 (색인에 content가 필요해서 엔티티로)
+    @Query("SELECT p FROM Posts p JOIN FETCH p.users ORDER BY p.id DESC")
+    List<Posts> findLatestWithUsers(Pageable pageable);
+
+    @Query("SELECT p FROM Posts p JOIN FETCH p.users WHERE p.id < :cursorId ORDER BY p.id DESC")
+    List<Posts> findWithUsersByIdLessThan(@Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 1-5. 전체 개수 없이 목록만 (Slice -> size + 1개만 조회하고 count 쿼리 안 나감)
+    @Query(LIST_SELECT)
+    Slice<PostListResponse> findListSlice(Pageable pageable);
+
+    @Query(LIST_SELECT + " WHERE u.id = :userId")
+    Slice<PostListResponse> findListSliceByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 1-6. id 목록으로 한 번에 조회 (검색 결과)
+    @Query(LIST_SELECT + " WHERE p.id IN :ids")
+    List<PostListResponse> findListByIdIn(@Param("ids") Collection<Long> ids);
 
     // 2. 게시글 검색
+    // 기본은 PostSearchService 색인으로 검색, 아래는 색인 준비 전에만 사용
     // 2-1. 게시글 제목 검색
-    @Query(value = "SELECT p FROM Posts p JOIN FETCH p.users WHERE p.title LIKE %:title%")
-    Page<Posts> findAllTitleContaining(String title, Pageable pageable);
+    @Query(value = LIST_SELECT + " WHERE p.title LIKE %:title%",
+            countQuery = "SELECT COUNT(p) FROM Posts p WHERE p.title LIKE %:title%")
+    Page<PostListResponse> findListTitleContaining(@Param("title") String title, Pageable pageable);
 
-    // 2-2. 게시글 내용 검색
-    @Query(value = "SELECT p FROM Posts p JOIN FETCH p.users WHERE p.content LIKE %:content%")
-    Page<Posts> findAllContentContaining(String content, Pageable pageable);
+    // 2-2. 게시글 내용 검색 (조건에만 content 사용, 조회는 안 함)
+    @Query(value = LIST_SELECT + " WHERE p.content LIKE %:content%",
+            countQuery = "SELECT COUNT(p) FROM Posts p WHERE p.content LIKE %:content%")
+    Page<PostListResponse> findListContentContaining(@Param("content") String content, Pageable pageable);
 
     // 2-3. 게시글 작성자 검색
     // 닉네임으로 하는게 맞을까...!!
-    @Query(value = "SELECT p FROM Posts p JOIN FETCH p.users WHERE p.users.nickname LIKE %:nickname%")
-    Page<Posts> findAllNicknameContaining(String nickname, Pageable pageable);
-
-    // 3. 조회수 증가
-    @Modifying(clearAutomatically = true) // 실행하고 나서 영속성 컨텍스트 초기화
-    @Query("UPDATE Posts p SET p.viewCount = p.viewCount + 1 WHERE p.id = :id")
-    void incrementViewCount(@Param("id") Long id);
-}
\ No newline at end of file
+    @Query(value = LIST_SELECT + " WHERE u.nickname LIKE %:nickname%",
+            countQuery = "SELECT COUNT(p) FROM Posts p WHERE p.users.nickname LIKE %:nickname%")
+    Page<PostListResponse> findListNicknameContaining(@Param("nickname") String nickname, Pageable pageable);
+
+    // 3. 조회수 증가 -> CounterBufferService에서 모아서 batch로 반영
+
+    // 4. 좋아요 수만 조회 (게시글 존재 확인 겸용, 삭제된 게시글은 empty)
+    @Query("SELECT p.likeCount FROM Posts p WHERE p.id = :postId")
+    Optional<Long> findLikeCountById(@Param("postId") Long postId);
+}
@@ -18,4 +18,7 @@ public interface UsersRepository extends JpaRepository<Users, Long> {
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
 
+    // 현재 프로필 이미지로 쓰이는 key인지 (썸네일 생성 후 원본이 교체됐는지 확인용)
+    boolean existsByProfileImageKey(String profileImageKey);
+
 }
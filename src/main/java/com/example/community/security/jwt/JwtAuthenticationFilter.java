@@ -1,5 +1,6 @@
 package com.example.community.security.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,6 +14,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Date;
+import java.util.Optional;
 
 import static com.example.community.common.AuthConstants.AUTHORIZATION_HEADER;
 import static com.example.community.common.AuthConstants.BEARER_PREFIX;
@@ -29,6 +32,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenUtil jwtTokenUtil;
     private final CustomUserDetailsService customUserDetailsService;
+    private final PrincipalCache principalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -48,10 +52,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = header.substring(7);
 
         // 토큰이 유효하면 SecurityContext에 인증 정보 저장
-        if (jwtTokenUtil.validateToken(token)) {
-            String email = jwtTokenUtil.getEmailFromToken(token);
-            System.out.println("JWT token email = " + email); // 잘 들어왔나 확인용..
-            UserDetails userDetails = customUserDetailsService.loadUserByUsername(email); // 이메일로 유저 찾기
+        // (검증 + Claims 추출을 한 번에)
+        Optional<Claims> claims = jwtTokenUtil.verify(token);
+        if (claims.isPresent()) {
+            String email = claims.get().getSubject();
+            Date issuedAt = claims.get().getIssuedAt();
+
+            // 이메일로 유저 찾기 (캐시에 없을 때만 DB 조회)
+            UserDetails userDetails = principalCache.get(email, issuedAt,
+                    key -> (CustomUserDetails) customUserDetailsService.loadUserByUsername(key));
 
             // 스프링 시큐리티가 이해하는 인증 객체 생성
             UsernamePasswordAuthenticationToken authentication =
@@ -1,6 +1,11 @@
 package com.example.community.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,23 +15,35 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static com.example.community.common.AuthConstants.CLAIM_ROLE;
 
 /**
  * 토큰 발급/검증
+ * - parser는 한 번만 만들어서 재사용 (불변, thread-safe)
+ * - 최근에 검증한 토큰은 SHA-256 해시 → Claims로 잠깐 캐시 (서명 검증 반복 안 하려고)
  */
 @Component
 public class JwtTokenUtil implements Serializable {
 
     private final SecretKey key;
     private final long expirationMillis;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
     public JwtTokenUtil(
             @Value("${jwt.secret-key}") String secretKey,
-            @Value("${jwt.token-expiration-seconds}") long expirationSeconds
+            @Value("${jwt.token-expiration-seconds}") long expirationSeconds,
+            @Value("${jwt.verified-cache.ttl-seconds:300}") long verifiedCacheTtlSeconds,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
     ) {
 
         // Base64 시크릿(yml에 있는 문자열)을 바이트로 복원
@@ -34,6 +51,13 @@ public class JwtTokenUtil implements Serializable {
 
         this.key = Keys.hmacShaKeyFor(raw);
         this.expirationMillis = expirationSeconds * 1000L; // 밀리초로 바꾸기
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(key) // 서명 검증용 키 등록
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new VerifiedTokenExpiry(Duration.ofSeconds(verifiedCacheTtlSeconds).toNanos()))
+                .build();
     }
 
     // 1. Access Token 생성
@@ -50,26 +74,92 @@ public class JwtTokenUtil implements Serializable {
 
     // 2. 토큰에서 이메일 추출
     public String getEmailFromToken(String token) {
-        return parseClaims(token).getSubject();
+        return verify(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
     }
 
     // 3. 토큰 유효성 검증 (토큰이 진짜인지/만료 되었는지)
     public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
+    // 4. 토큰 검증 + Claims 반환 (한 번만 파싱)
+    // 유효하지 않거나 만료된 토큰이면 Optional.empty()
+    public Optional<Claims> verify(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        String hash = sha256(token);
+
+        // 1) 최근에 검증한 토큰이면 서명 검증 생략
+        VerifiedToken cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                return Optional.of(cached.claims());
+            }
+            verifiedTokens.invalidate(hash); // 만료됨
+            return Optional.empty();
+        }
+
+        // 2) 처음 보는 토큰이면 파싱 + 서명 검증
+        Claims claims;
         try {
-            Claims claims = parseClaims(token); // 토큰 안의 데이터(Claims) 꺼내기
-            return !claims.getExpiration().before(new Date()); // 만료시간 가져오기 -> 근데 지금보다 이전이면 이미 만료된걸로 판단
+            claims = parseClaims(token); // 토큰 안의 데이터(Claims) 꺼내기
         } catch (Exception e) {
-            return false; // 만료(만료 시간이 지났음)
+            return Optional.empty(); // 서명 불일치, 형식 오류, 만료 등
+        }
+
+        // 만료시간이 없거나 지금보다 이전이면 이미 만료된걸로 판단
+        Date expiration = claims.getExpiration();
+        if (expiration == null || expiration.getTime() <= now) {
+            return Optional.empty();
         }
+
+        verifiedTokens.put(hash, new VerifiedToken(claims, expiration.getTime()));
+        return Optional.of(claims);
     }
 
-    // 4. 토큰 검증 및 내용 추출 (토큰 파싱)
+    // 5. 토큰 검증 및 내용 추출 (토큰 파싱)
     // 토큰을 열어서 안에 들어있는 이메일, role, 만료시간 같은 내용을 꺼내는 함수
     private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(key) // 서명 검증용 키 등록
-                .build() // parser 객체 생성
+        return parser
                 .parseClaimsJws(token) // 토큰이 진짜인지 파싱 + 검증
                 .getBody(); // Payload(Claims, 유저 정보)등 추출
     }
+
+    // 캐시 키 (토큰 원문 대신 해시 보관)
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record VerifiedToken(Claims claims, long expiresAtMillis) {
+    }
+
+    // 캐시 유지 시간 = min(설정 TTL, 토큰 남은 만료 시간)
+    private record VerifiedTokenExpiry(long maxTtlNanos) implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            long remainingMillis = Math.max(0L, value.expiresAtMillis() - System.currentTimeMillis());
+            return Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
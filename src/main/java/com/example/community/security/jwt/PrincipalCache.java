@@ -0,0 +1,62 @@
+package com.example.community.security.jwt;
+
+import com.example.community.common.cache.CoalescingLoader;
+import com.example.community.common.tx.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.function.Function;
+
+/**
+ * 인증된 사용자(CustomUserDetails) 캐시
+ * 요청마다 findByEmail 하지 않고 (토큰 주인, 발급 시각) 기준으로 잠깐 들고 있음
+ * - 크기/TTL 제한 (jwt.principal-cache.*)
+ * - 비밀번호/닉네임/프로필 변경, 탈퇴 시 UsersService 등에서 바로 지움
+ */
+
+@Component
+public class PrincipalCache {
+
+    private final Cache<PrincipalKey, CustomUserDetails> cache;
+    private final CoalescingLoader<PrincipalKey, CustomUserDetails> coalescingLoader;
+
+    public PrincipalCache(
+            @Value("${jwt.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${jwt.principal-cache.max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+        this.coalescingLoader = new CoalescingLoader<>(cache);
+    }
+
+    // 캐시에 있으면 바로 반환, 없으면 loader로 DB 조회 후 저장 (조회는 캐시 락 밖에서)
+    public CustomUserDetails get(String email, Date issuedAt, Function<String, CustomUserDetails> loader) {
+        long issuedAtMillis = issuedAt != null ? issuedAt.getTime() : 0L;
+        return coalescingLoader.get(new PrincipalKey(email, issuedAtMillis), key -> loader.apply(key.email()));
+    }
+
+    // 이메일 기준 삭제 (토큰 여러 개 발급됐을 수 있어서 전부)
+    public void evictByEmail(String email) {
+        AfterCommit.run(() -> {
+            coalescingLoader.cancelLoads();
+            cache.asMap().keySet().removeIf(key -> key.email().equals(email));
+        });
+    }
+
+    // 사용자 id 기준 삭제
+    public void evictByUserId(Long userId) {
+        AfterCommit.run(() -> {
+            coalescingLoader.cancelLoads();
+            cache.asMap().values().removeIf(details -> details.getUsers().getId().equals(userId));
+        });
+    }
+
+    private record PrincipalKey(String email, long issuedAt) {
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.community.service;
+
+import com.example.community.common.counter.CounterFlushedEvent;
+import com.example.community.common.counter.CounterResetEvent;
+import com.example.community.common.counter.CounterType;
+import com.example.community.repository.CounterJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * posts.comment_count 보정
+ * 댓글 수는 CounterBufferService로 델타만 반영하니까
+ * 강제 종료 등으로 델타가 유실되면 실제 댓글 수와 어긋날 수 있음
+ * -> 주기적으로 id 구간별로 실제 댓글 수와 비교해서 다른 것만 덮어씀
+ *
+ * 덮어쓴 뒤 델타가 또 더해지면 이중 반영이라 아래 게시글은 건너뜀
+ * - 버퍼에 델타가 있거나 flush 중인 게시글 (hasPending)
+ * - 이번 보정 도중에 flush된 게시글
+ * - 최근(settle-seconds 안)에 댓글이 작성/삭제된 게시글 (커밋은 됐지만 afterCommit 델타가 아직 안 들어갔을 수 있음)
+ * 세기와 덮어쓰기는 UPDATE 한 문장으로 (읽고 쓰는 사이 틈 없음)
+ * 한 번에 전체를 안 읽고 batch-size 구간씩 나눠서 (긴 쿼리/락 방지)
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final CounterJdbcRepository counterJdbcRepository;
+    private final CounterBufferService counterBufferService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${counter.reconcile.batch-size:1000}")
+    private long batchSize;
+
+    @Value("${counter.reconcile.settle-seconds:60}")
+    private long settleSeconds;
+
+    // 보정 도중에 flush된 게시글 id (보정 중이 아니면 null)
+    private volatile Set<Long> flushedDuringPass;
+
+    @Scheduled(
+            initialDelayString = "${counter.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${counter.reconcile.interval-ms:600000}")
+    public void reconcile() {
+        long maxId = counterJdbcRepository.findMaxId(CounterType.POST_COMMENT.getTable());
+        int fixed = 0;
+
+        Set<Long> flushed = ConcurrentHashMap.newKeySet();
+        flushedDuringPass = flushed;
+        try {
+            for (long fromId = 0; fromId < maxId; fromId += batchSize) {
+                Map<Long, Long> drift = counterJdbcRepository.findCommentCountDrift(fromId, fromId + batchSize);
+
+                Set<Long> targets = drift.keySet().stream()
+                        .filter(postId -> !flushed.contains(postId))
+                        .filter(postId -> !counterBufferService.hasPending(CounterType.POST_COMMENT, postId))
+                        .collect(Collectors.toSet());
+
+                if (!targets.isEmpty()) {
+                    int updated = counterJdbcRepository.resetCommentCounts(targets,
+                            LocalDateTime.now().minusSeconds(settleSeconds));
+                    eventPublisher.publishEvent(new CounterResetEvent(CounterType.POST_COMMENT, targets));
+                    fixed += updated;
+                }
+            }
+        } finally {
+            flushedDuringPass = null;
+        }
+
+        if (fixed > 0) {
+            log.info("[COUNTER] comment_count 보정: rows={}", fixed);
+        }
+    }
+
+    @EventListener
+    public void onCounterFlushed(CounterFlushedEvent event) {
+        Set<Long> flushed = flushedDuringPass;
+        if (flushed != null && event.type() == CounterType.POST_COMMENT) {
+            flushed.addAll(event.ids());
+        }
+    }
+}
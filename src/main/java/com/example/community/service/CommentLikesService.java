@@ -1,4 +1,95 @@
 package com.example.community.service;
 
+import com.example.community.common.counter.CounterType;
+import com.example.community.common.exception.custom.ResourceNotFoundException;
+import com.example.community.dto.response.comments.CommentLikeResponse;
+import com.example.community.entity.Users;
+import com.example.community.repository.CommentLikesRepository;
+import com.example.community.repository.CommentsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 댓글 좋아요
+ * - PostLikesService와 같은 방식 (unique 키 + INSERT IGNORE / DELETE, like_count는 CounterBufferService로 모아서 반영)
+ * - 댓글 목록 렌더링용으로 "이 댓글들 중 내가 좋아요 누른 것" 한 번에 조회
+ */
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
 public class CommentLikesService {
+
+    private final CommentLikesRepository commentLikesRepository;
+    private final CommentsRepository commentsRepository;
+    private final CounterBufferService counterBufferService;
+
+    // 1. 좋아요
+    public CommentLikeResponse like(Long postId, Long commentId, Users users) {
+        long likeCount = findLikeCount(postId, commentId);
+
+        int inserted = commentLikesRepository.insertIgnore(users.getId(), commentId);
+        if (inserted > 0) {
+            counterBufferService.addAfterCommit(CounterType.COMMENT_LIKE, commentId, 1L);
+        }
+
+        return CommentLikeResponse.of(commentId, likeCount + inserted, true);
+    }
+
+    // 2. 좋아요 취소
+    public CommentLikeResponse unlike(Long postId, Long commentId, Users users) {
+        long likeCount = findLikeCount(postId, commentId);
+
+        int deleted = commentLikesRepository.deleteByUserIdAndCommentId(users.getId(), commentId);
+        if (deleted > 0) {
+            counterBufferService.addAfterCommit(CounterType.COMMENT_LIKE, commentId, -1L);
+        }
+
+        return CommentLikeResponse.of(commentId, Math.max(likeCount - deleted, 0L), false);
+    }
+
+    // 3. 좋아요 수 + 내가 눌렀는지 (비로그인이면 liked = false)
+    @Transactional(readOnly = true)
+    public CommentLikeResponse getLikes(Long postId, Long commentId, Users users) {
+        long likeCount = findLikeCount(postId, commentId);
+        boolean liked = users != null && commentLikesRepository.existsByUsersIdAndCommentsId(users.getId(), commentId);
+        return CommentLikeResponse.of(commentId, likeCount, liked);
+    }
+
+    // 4. 주어진 댓글 id 중 내가 좋아요 누른 id (쿼리 한 번)
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedCommentIds(Users users, Collection<Long> commentIds) {
+        if (users == null || commentIds == null || commentIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(commentLikesRepository.findLikedCommentIds(users.getId(), commentIds));
+    }
+
+    // 5. 4번을 게시글 하나로 한정 (/posts/{postId}/comments/likes/me)
+    @Transactional(readOnly = true)
+    public Set<Long> findLikedCommentIds(Users users, Long postId, Collection<Long> commentIds) {
+        if (users == null || commentIds == null || commentIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(commentLikesRepository.findLikedCommentIdsInPost(users.getId(), postId, commentIds));
+    }
+
+    // 아직 DB에 반영 안 된 좋아요 델타
+    public long pendingLikeCount(Long commentId) {
+        return counterBufferService.pending(CounterType.COMMENT_LIKE, commentId);
+    }
+
+    // DB에 반영된 값 + 아직 반영 안 된 델타
+    private long findLikeCount(Long postId, Long commentId) {
+        Long stored = commentsRepository.findLikeCountByIdAndPostId(commentId, postId).orElseThrow(
+                () -> new ResourceNotFoundException("댓글을 찾을 수 없습니다."));
+        return Math.max(stored + pendingLikeCount(commentId), 0L);
+    }
 }
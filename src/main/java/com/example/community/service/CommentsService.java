@@ -1,5 +1,6 @@
 package com.example.community.service;
 
+import com.example.community.common.counter.CounterType;
 import com.example.community.common.exception.custom.ResourceNotFoundException;
 import com.example.community.common.exception.custom.UnauthenticatedException;
 import com.example.community.dto.request.comments.CommentRequest;
@@ -11,14 +12,19 @@ import com.example.community.entity.Users;
 import com.example.community.repository.CommentsRepository;
 import com.example.community.repository.PostsRepository;
 import com.example.community.repository.UsersRepository;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,16 +35,45 @@ public class CommentsService {
     private final UsersRepository usersRepository;
     private final PostsRepository postsRepository;
     private final CommentsRepository commentsRepository;
+    private final CommentLikesService commentLikesService;
+    private final CounterBufferService counterBufferService;
 
     // 댓글 목록 조회 (게시글별, 페이징)
-    public Page<CommentResponse> getAllComments(Pageable pageable, Long postId) {
+    // users: 로그인한 사용자 (좋아요 여부 표시용, 비로그인이면 null)
+    @Transactional(readOnly = true)
+    public Page<CommentResponse> getAllComments(Pageable pageable, Long postId, Users users) {
         Page<Comments> comments = commentsRepository.findAllByPostIdWithUsers(postId, pageable);
-        List<CommentResponse> list = comments.getContent().stream()
-                .map(CommentResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<CommentResponse> list = toResponses(comments.getContent(), users);
         return new PageImpl<>(list, pageable, comments.getTotalElements());
     }
 
+    // 댓글 목록 조회 (전체 개수 없이)
+    @Transactional(readOnly = true)
+    public Slice<CommentResponse> getAllCommentsSlice(Pageable pageable, Long postId, Users users) {
+        Slice<Comments> comments = commentsRepository.findSliceByPostIdWithUsers(postId, pageable);
+        List<CommentResponse> list = toResponses(comments.getContent(), users);
+        return new SliceImpl<>(list, pageable, comments.hasNext());
+    }
+
+    // 게시글 상세에 같이 내려줄 댓글 첫 페이지 (오래된 순, 댓글 목록 API 기본 정렬과 같게)
+    // 작성자는 JOIN FETCH, 좋아요 여부는 한 번에 -> 댓글 수와 상관없이 쿼리 고정 (count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public Slice<CommentResponse> getFirstComments(Long postId, Users users, int size) {
+        return getAllCommentsSlice(PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "id")), postId, users);
+    }
+
+    // 댓글 목록 -> 응답 (좋아요 여부는 쿼리 한 번으로, 좋아요 수는 아직 반영 안 된 델타까지)
+    private List<CommentResponse> toResponses(List<Comments> comments, Users users) {
+        Set<Long> likedIds = commentLikesService.findLikedCommentIds(users,
+                comments.stream().map(Comments::getId).toList());
+
+        return comments.stream()
+                .map(c -> CommentResponse.fromEntity(c,
+                        commentLikesService.pendingLikeCount(c.getId()),
+                        likedIds.contains(c.getId())))
+                .collect(Collectors.toList());
+    }
+
     // 댓글 등록
     public CommentResponse write(Long postId, Users users, CommentRequest commentRequest) {
 
@@ -58,6 +93,9 @@ public class CommentsService {
         comments.writtenBy(commentWriter); // comments.setUsers(commentWriter);
 
         Comments saveComment = commentsRepository.save(comments);
+
+        // 게시글 댓글 수 +1 (posts 행을 바로 UPDATE 하지 않고 모아서 반영)
+        counterBufferService.addAfterCommit(CounterType.POST_COMMENT, postId, 1L);
         return CommentResponse.fromEntity(saveComment);
     }
 
@@ -76,22 +114,26 @@ public class CommentsService {
     }
 
     // 마이페이지 - 사용자별 댓글 조회
+    @Transactional(readOnly = true)
     public Page<CommentResponse> getMyComments(Pageable pageable, Users users) {
         Page<Comments> findComment = commentsRepository.findAllByUsers(pageable, users);
-        List<CommentResponse> list = findComment.getContent().stream()
-                .map(CommentResponse::fromEntity)
-                .collect(Collectors.toList());
+        List<CommentResponse> list = toResponses(findComment.getContent(), users);
 
         return new PageImpl<>(list, pageable, findComment.getTotalElements());
     }
 
-    public Page<PostListResponse> getMyPosts(Pageable pageable, Users users) {
-        Page<Posts> findPost = postsRepository.findAllByUsers(pageable, users);
-        List<PostListResponse> list = findPost.getContent().stream()
-                .map(PostListResponse::fromEntity)
-                .collect(Collectors.toList());
+    // 마이페이지 - 사용자별 댓글 조회 (전체 개수 없이)
+    @Transactional(readOnly = true)
+    public Slice<CommentResponse> getMyCommentsSlice(Pageable pageable, Users users) {
+        Slice<Comments> findComment = commentsRepository.findSliceByUsers(users, pageable);
+        List<CommentResponse> list = toResponses(findComment.getContent(), users);
 
-        return new PageImpl<>(list, pageable, findPost.getTotalElements());
+        return new SliceImpl<>(list, pageable, findComment.hasNext());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<PostListResponse> getMyPosts(Pageable pageable, Users users) {
+        return postsRepository.findListByUserId(users.getId(), pageable);
     }
 
     // 댓글 삭제 (Soft Delete -> @SQLDelete 작동)
@@ -99,6 +141,9 @@ public class CommentsService {
         Comments comment = commentsRepository.findById(commentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Comments"));
         commentsRepository.delete(comment); // deleted_at = NOW()
+
+        // 게시글 댓글 수 -1
+        counterBufferService.addAfterCommit(CounterType.POST_COMMENT, comment.getPosts().getId(), -1L);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+package com.example.community.service;
+
+import com.example.community.common.counter.CounterBuffer;
+import com.example.community.common.counter.CounterFlushedEvent;
+import com.example.community.common.counter.CounterType;
+import com.example.community.common.tx.AfterCommit;
+import com.example.community.repository.CounterJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 조회수 같은 카운터를 요청마다 UPDATE 하지 않고
+ * 메모리에 모아뒀다가 주기적으로 batch UPDATE 하는 서비스 (write-behind)
+ *
+ * - flush 중인 델타도 DB 반영 전까지는 pending에 포함 (응답 값이 잠깐 줄어들지 않게)
+ * - flush 실패 시 델타를 버퍼에 되돌려서 다음 주기에 재시도
+ * - 종료 시(@PreDestroy) 남은 델타 flush
+ * - 프로세스가 강제 종료되면 마지막 flush 이후 델타(최대 flush 주기만큼)는 유실될 수 있음
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterBufferService {
+
+    private final CounterJdbcRepository counterJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Map<CounterType, CounterBuffer> buffers = createBuffers();
+
+    // 1 증가 -> 아직 반영 안 된 값 반환
+    public long increment(CounterType type, Long id) {
+        return add(type, id, 1L);
+    }
+
+    public long add(CounterType type, Long id, long delta) {
+        return buffers.get(type).add(id, delta);
+    }
+
+    // 트랜잭션 커밋 후에 반영 (좋아요 INSERT가 롤백되면 카운터도 안 올라가게)
+    // 트랜잭션 밖에서 호출하면 바로 반영
+    public void addAfterCommit(CounterType type, Long id, long delta) {
+        AfterCommit.run(() -> add(type, id, delta));
+    }
+
+    // 아직 DB에 반영 안 된 값 (응답에 더해서 보여주기용)
+    public long pending(CounterType type, Long id) {
+        return buffers.get(type).pending(id);
+    }
+
+    // 아직 반영 안 된 델타가 있는지 (보정 작업에서 건너뛰기용)
+    public boolean hasPending(CounterType type, Long id) {
+        return buffers.get(type).pending(id) != 0L;
+    }
+
+    // 주기적으로 전체 카운터 flush
+    @Scheduled(fixedDelayString = "${counter.flush-interval-ms:3000}")
+    public void flushAll() {
+        for (CounterType type : CounterType.values()) {
+            flush(type);
+        }
+    }
+
+    public void flush(CounterType type) {
+        CounterBuffer buffer = buffers.get(type);
+        long startedAt = System.nanoTime();
+        Map<Long, Long> deltas = buffer.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            counterJdbcRepository.addDeltas(type, deltas);
+            eventPublisher.publishEvent(new CounterFlushedEvent(type, deltas, startedAt));
+            buffer.complete(deltas); // DB에 반영된 뒤에 pending에서 빠짐
+            log.debug("[COUNTER] flush 완료: type={}, rows={}", type, deltas.size());
+        } catch (RuntimeException e) {
+            // 트랜잭션이 롤백됐으니 델타를 되돌려서 다음 주기에 다시 반영
+            buffer.restore(deltas);
+            log.warn("[COUNTER] flush 실패, 다음 주기에 재시도: type={}, rows={}", type, deltas.size(), e);
+        }
+    }
+
+    // 애플리케이션 종료 시 남은 델타 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[COUNTER] 종료 전 flush");
+        flushAll();
+    }
+
+    private static Map<CounterType, CounterBuffer> createBuffers() {
+        Map<CounterType, CounterBuffer> map = new EnumMap<>(CounterType.class);
+        for (CounterType type : CounterType.values()) {
+            map.put(type, new CounterBuffer());
+        }
+        return map;
+    }
+}
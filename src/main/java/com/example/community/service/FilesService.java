@@ -1,29 +1,58 @@
 package com.example.community.service;
 
+import com.example.community.common.exception.custom.BadRequestException;
+import com.example.community.common.exception.custom.ConflictedException;
+import com.example.community.common.exception.custom.ResourceNotFoundException;
 import com.example.community.common.exception.custom.UnauthenticatedException;
+import com.example.community.common.tx.AfterCommit;
+import com.example.community.dto.request.files.FileConfirmRequest;
+import com.example.community.dto.request.files.FilePresignRequest;
 import com.example.community.dto.request.files.LambdaDownloadRequest;
 import com.example.community.dto.request.files.LambdaUploadRequest;
 import com.example.community.dto.response.files.FileDownloadResponse;
+import com.example.community.dto.response.files.FilePostDetailsResponse;
+import com.example.community.dto.response.files.FilePresignResponse;
 import com.example.community.dto.response.files.FileUploadResponse;
+import com.example.community.dto.response.files.FileUploadResultResponse;
 import com.example.community.dto.response.files.LambdaDownloadResponse;
 import com.example.community.dto.response.files.LambdaUploadResponse;
 import com.example.community.entity.Files;
+import com.example.community.entity.OrphanObjects;
 import com.example.community.entity.Posts;
 import com.example.community.entity.Users;
 import com.example.community.repository.FilesRepository;
+import com.example.community.repository.OrphanObjectsRepository;
 import com.example.community.repository.PostsRepository;
+import com.example.community.service.storage.DownloadUrlCache;
+import com.example.community.service.storage.ImageDerivativeService;
+import com.example.community.service.storage.PresignedUrlUploader;
+import com.example.community.service.storage.Presigner;
+import com.example.community.service.storage.StorageObjects;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -32,14 +61,42 @@ public class FilesService {
 
     private final PostsRepository postsRepository;
     private final FilesRepository filesRepository;
-    private final RestTemplate restTemplate;
+    private final Presigner presigner;
+    private final PresignedUrlUploader presignedUrlUploader;
+    private final DownloadUrlCache downloadUrlCache;
+    private final StorageObjects storageObjects;
+    private final ImageDerivativeService imageDerivativeService;
+    private final OrphanObjectsRepository orphanObjectsRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Value("${lambda.file.endpoint}")
-    private String lambdaEndpoint;
+    // presign 발급했지만 아직 확인 안 된 객체 (orphan_objects.source)
+    private static final String PENDING_UPLOAD = "pending-upload";
+
+    // 서버 경유 업로드 중, 아직 files 행 저장 전인 객체 (orphan_objects.source)
+    private static final String UPLOADING = "uploading";
+
+    // 요청 하나에서 동시에 올릴 파일 수
+    @Value("${files.upload.max-concurrency:4}")
+    private int maxConcurrency;
+
+    // 직접 업로드 제한 (presign 발급 + 확인 때 둘 다 검사)
+    @Value("${files.upload.max-file-size-bytes:10485760}")
+    private long maxFileSize;
+
+    @Value("${files.upload.allowed-content-types:image/jpeg,image/png,image/gif,image/webp,application/pdf,text/plain}")
+    private String allowedContentTypes;
+
+    // presign 발급 후 이 시간 안에 확인해야 함 (GC 유예 기간보다 짧게)
+    @Value("${files.upload.confirm-window-minutes:60}")
+    private long confirmWindowMinutes;
 
     /// 업로드
     // 파일 여러 장 업로드
-    public List<FileUploadResponse> upload(List<MultipartFile> files, Long postId, Users users) throws Exception {
+    // - 파일별 presign + S3 PUT은 가상 스레드에서 동시에 (최대 max-concurrency개)
+    // - 일부 실패해도 나머지는 진행, 파일별 결과로 응답
+    // - DB 메타데이터는 마지막에 한 번에 저장
+    // - PUT 전에 key를 orphan_objects에 기록 -> 저장까지 못 가면(실패, 서버 종료) 유예 기간 뒤 GC가 삭제
+    public List<FileUploadResultResponse> upload(List<MultipartFile> files, Long postId, Users users) {
 
         if (files == null || files.isEmpty()) {
             throw new IllegalArgumentException("업로드할 파일이 없습니다.");
@@ -54,18 +111,71 @@ public class FilesService {
             throw new UnauthenticatedException("업로드 권한이 없습니다.");
         }
 
-        List<FileUploadResponse> result = new ArrayList<>();
+        List<MultipartFile> targets = files.stream()
+                .filter(file -> file != null && !file.isEmpty())
+                .toList();
+
+        // 1) presign + S3 업로드 (병렬)
+        List<Future<Files>> futures = new ArrayList<>(targets.size());
+        Semaphore permits = new Semaphore(Math.max(1, maxConcurrency));
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : targets) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        return storeObject(file, posts);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            }
+        } // close()가 모든 작업 끝날 때까지 기다림
+
+        // 2) 파일별 결과 모으기 (요청 순서 유지)
+        FileUploadResultResponse[] results = new FileUploadResultResponse[targets.size()];
+        List<Files> uploaded = new ArrayList<>();
+        List<Integer> uploadedIndexes = new ArrayList<>();
+
+        for (int i = 0; i < targets.size(); i++) {
+            try {
+                uploaded.add(futures.get(i).get());
+                uploadedIndexes.add(i);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                log.warn("[FILE-UPLOAD] 업로드 실패: postId={}, file={}",
+                        postId, targets.get(i).getOriginalFilename(), cause);
+                results[i] = FileUploadResultResponse.failure(targets.get(i).getOriginalFilename(), cause.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("파일 업로드가 중단되었습니다.", e);
+            }
+        }
 
-        for (MultipartFile file : files) {
-            if (file == null || file.isEmpty()) continue;
-            result.add(uploadSingleFile(file, posts));
+        // 3) DB에 파일 메타데이터 한 번에 저장 (업로드 중 기록 삭제랑 같은 트랜잭션)
+        List<Files> saved = transactionTemplate.execute(status -> register(uploaded));
+        for (int i = 0; i < saved.size(); i++) {
+            results[uploadedIndexes.get(i)] = FileUploadResultResponse.success(FileUploadResponse.fromEntity(saved.get(i)));
         }
 
-        return result;
+        return List.of(results);
+    }
+
+    // 올린 파일 메타데이터 저장 + 업로드 중 기록 삭제 (트랜잭션 안에서 호출)
+    // 저장이 롤백되면 기록도 남아서 GC 대상 그대로
+    private List<Files> register(List<Files> uploaded) {
+        if (uploaded.isEmpty()) {
+            return List.of();
+        }
+        List<Files> saved = filesRepository.saveAll(uploaded);
+        orphanObjectsRepository.deleteAllInBatch(orphanObjectsRepository.findByS3KeyInAndSource(
+                saved.stream().map(Files::getS3Key).toList(), UPLOADING));
+        saved.forEach(this::generateVariants); // 이미지면 썸네일 생성 (커밋 후 비동기)
+        return saved;
     }
 
-    // 파일 한 장 업로드 (내부용)
-    private FileUploadResponse uploadSingleFile(MultipartFile file, Posts posts) throws Exception {
+    // presign 받아서 S3에 올리고, 저장할 Files 엔티티 반환 (DB 저장은 호출하는 쪽에서)
+    private Files storeObject(MultipartFile file, Posts posts) throws Exception {
 
         String originalFilename = file.getOriginalFilename();
         String ext = "";
@@ -77,7 +187,10 @@ public class FilesService {
         // S3 key 생성
         String key = "posts/" + posts.getId() + "/" + UUID.randomUUID() + ext;
 
-        // Lambda 요청 DTO
+        // 올리기 전에 기록 (DB 저장 전에 실패해도 S3 객체를 찾을 수 있게)
+        orphanObjectsRepository.save(OrphanObjects.of(key, UPLOADING));
+
+        // presign 요청 DTO
         LambdaUploadRequest lambdaReq = new LambdaUploadRequest(
                 key,
                 file.getContentType(),
@@ -87,62 +200,187 @@ public class FilesService {
                 "post-file"
         );
 
-        String url = lambdaEndpoint + "/files";
+        // Presigned PUT URL 받기 (Lambda 또는 로컬 서명)
+        LambdaUploadResponse lambdaRes = presigner.presignUpload(lambdaReq);
 
-        // Lambda 호출 → Presigned PUT URL 받기
-        LambdaUploadResponse lambdaRes =
-                restTemplate.postForObject(url, lambdaReq, LambdaUploadResponse.class);
+        // Presigned URL로 S3에 실제 파일 업로드
+        presignedUrlUploader.upload(lambdaRes.getUploadUrl(), file);
+
+        // 저장할 파일 메타데이터
+        return Files.builder()
+                .originName(originalFilename)
+                .fileType(file.getContentType())
+                .fileSize(file.getSize())
+                .s3Key(key)
+                .fileUrl(lambdaRes.getFileUrl())
+                .posts(posts)
+                .deletedAt(null)
+                .build();
+    }
 
-        if (lambdaRes == null || lambdaRes.getUploadUrl() == null) {
-            log.error("[FILE-UPLOAD] Lambda 응답 오류: {}", lambdaRes);
-            throw new IllegalStateException("Lambda에서 업로드 URL을 받지 못했습니다.");
+    /// 직접 업로드 (서버를 거치지 않고 클라이언트 -> S3)
+    // 1단계: 파일별 presigned PUT URL 발급 (key는 서버에서 생성)
+    // - 크기/타입 제한 확인 (multipart 업로드의 크기 제한을 우회하지 않게)
+    // - 발급한 key는 orphan_objects에 pending-upload로 기록 -> 확인 안 되면 유예 기간 뒤 GC가 삭제
+    public List<FilePresignResponse> presignUploads(Long postId, FilePresignRequest request, Users users) {
+        Posts posts = findOwnedPost(postId, users, "업로드 권한이 없습니다.");
+
+        request.getFiles().forEach(item -> checkUploadLimits(item.getOriginName(), item.getFileSize(), item.getContentType()));
+
+        List<FilePresignResponse> responses = new ArrayList<>();
+        List<OrphanObjects> issued = new ArrayList<>();
+        for (FilePresignRequest.FileItem item : request.getFiles()) {
+            String key = "posts/" + posts.getId() + "/" + UUID.randomUUID() + extension(item.getOriginName());
+            LambdaUploadRequest presignReq = new LambdaUploadRequest(
+                    key,
+                    item.getContentType(),
+                    item.getFileSize(),
+                    String.valueOf(users.getId()), // uploaderId
+                    posts.getId(),
+                    "post-file"
+            );
+            responses.add(FilePresignResponse.of(item.getOriginName(), presigner.presignUpload(presignReq)));
+            issued.add(OrphanObjects.of(key, PENDING_UPLOAD));
         }
 
-        // Presigned URL로 S3에 실제 파일 업로드
-        uploadToPresignedUrl(lambdaRes.getUploadUrl(), file);
-
-        // DB에 파일 메타데이터 저장
-        Files saved = filesRepository.save(
-                Files.builder()
-                        .originName(originalFilename)
-                        .fileType(file.getContentType())
-                        .fileSize(file.getSize())
-                        .s3Key(key)
-                        .fileUrl(lambdaRes.getFileUrl())
-                        .posts(posts)
-                        .deletedAt(null)
-                        .build()
-        );
+        orphanObjectsRepository.saveAll(issued);
+        return responses;
+    }
 
-        return FileUploadResponse.fromEntity(saved);
+    // 2단계: 클라이언트가 S3에 올린 파일 확인 후 메타데이터 등록
+    // - key가 이 게시글 경로인지, 이미 등록된 key가 아닌지, 실제로 올라왔고 크기가 맞는지 확인
+    // - 발급 기록(pending-upload)이 있고 확인 기한 안인지, 실제 객체도 크기/타입 제한 안인지 확인
+    // - 하나라도 안 맞으면 아무것도 등록 안 함, 등록되면 pending 기록 삭제 (같은 트랜잭션)
+    @Transactional
+    public List<FileUploadResponse> confirmUploads(Long postId, FileConfirmRequest request, Users users) {
+        Posts posts = findOwnedPost(postId, users, "업로드 권한이 없습니다.");
+        String keyPrefix = "posts/" + posts.getId() + "/";
+
+        Map<String, OrphanObjects> pending = orphanObjectsRepository.findByS3KeyInAndSource(
+                        request.getFiles().stream().map(FileConfirmRequest.FileItem::getKey).toList(), PENDING_UPLOAD)
+                .stream()
+                .collect(Collectors.toMap(OrphanObjects::getS3Key, o -> o, (a, b) -> a));
+        LocalDateTime confirmDeadline = LocalDateTime.now().minusMinutes(confirmWindowMinutes);
+
+        Set<String> seenKeys = new HashSet<>();
+        List<Files> confirmed = new ArrayList<>();
+
+        for (FileConfirmRequest.FileItem item : request.getFiles()) {
+            String key = item.getKey();
+
+            if (!key.startsWith(keyPrefix) || key.contains("..")) {
+                throw new BadRequestException("이 게시글에 발급된 key가 아닙니다: " + key);
+            }
+            if (!seenKeys.add(key) || filesRepository.existsByS3Key(key)) {
+                throw new ConflictedException("이미 등록된 파일입니다: " + key);
+            }
+
+            OrphanObjects issued = pending.get(key);
+            if (issued == null || issued.getCreatedAt().isBefore(confirmDeadline)) {
+                throw new BadRequestException("발급 기록이 없거나 확인 기한이 지난 key입니다: " + key);
+            }
+
+            HeadObjectResponse object = storageObjects.head(key).orElseThrow(
+                    () -> new BadRequestException("업로드되지 않은 파일입니다: " + key));
+
+            if (!object.contentLength().equals(item.getFileSize())) {
+                throw new BadRequestException("파일 크기가 일치하지 않습니다: " + key);
+            }
+            checkUploadLimits(key, object.contentLength(), object.contentType());
+
+            confirmed.add(Files.builder()
+                    .originName(item.getOriginName())
+                    .fileType(object.contentType() != null ? object.contentType() : "application/octet-stream")
+                    .fileSize(object.contentLength())
+                    .s3Key(key)
+                    .fileUrl(storageObjects.objectUrl(key))
+                    .posts(posts)
+                    .deletedAt(null)
+                    .build());
+        }
+
+        List<Files> saved = filesRepository.saveAll(confirmed);
+        orphanObjectsRepository.deleteAllInBatch(pending.values()); // 이제 GC 대상 아님
+        saved.forEach(this::generateVariants);
+        return saved.stream()
+                .map(FileUploadResponse::fromEntity)
+                .toList();
     }
 
-    private void uploadToPresignedUrl(String uploadUrl, MultipartFile file) throws Exception {
-        URL url = new URL(uploadUrl);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
+    // 직접 업로드 크기/타입 제한
+    private void checkUploadLimits(String name, Long fileSize, String contentType) {
+        if (fileSize == null || fileSize > maxFileSize) {
+            throw new BadRequestException("파일 크기는 최대 " + maxFileSize + " bytes 입니다: " + name);
+        }
+        String type = contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+        boolean allowed = Arrays.stream(allowedContentTypes.split(","))
+                .map(String::trim)
+                .anyMatch(type::equals);
+        if (!allowed) {
+            throw new BadRequestException("업로드할 수 없는 파일 형식입니다: " + name);
+        }
+    }
+
+    // 이미지 파일이면 썸네일/리사이즈 이미지 생성 예약
+    private void generateVariants(Files file) {
+        imageDerivativeService.generateAfterCommit(file.getS3Key(), file.getFileType());
+    }
 
-        conn.setDoOutput(true);
-        conn.setRequestMethod("PUT");
-        conn.setRequestProperty("Content-Type", file.getContentType());
+    // 게시글 조회 + 작성자 확인
+    private Posts findOwnedPost(Long postId, Users users, String message) {
+        Posts posts = postsRepository.findById(postId)
+                .orElseThrow(() -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
 
-        try (var os = conn.getOutputStream()) {
-            os.write(file.getBytes());
+        if (!posts.getUsers().getId().equals(users.getId())) {
+            throw new UnauthenticatedException(message);
         }
+        return posts;
+    }
 
-        int code = conn.getResponseCode();
-        if (code < 200 || code >= 300) {
-            throw new RuntimeException("S3 업로드 실패: HTTP " + code);
+    private String extension(String originalFilename) {
+        if (originalFilename != null && originalFilename.contains(".")) {
+            return originalFilename.substring(originalFilename.lastIndexOf("."));
         }
+        return "";
     }
 
     /// 게시글 목록 조회
     public List<FileUploadResponse> getAllFiles(Long postId) throws Exception {
         List<Files> files = filesRepository.findByPostsId(postId);
+
+        // 썸네일/변환본은 한 번에 조회
+        Map<String, Map<String, String>> variants = imageDerivativeService.variantUrls(
+                files.stream().map(Files::getS3Key).toList());
+
         return files.stream()
-                .map(FileUploadResponse::fromEntity)
+                .map(file -> {
+                    Map<String, String> fileVariants = variants.get(file.getS3Key());
+                    return FileUploadResponse.fromEntity(file, imageDerivativeService.thumbnailOf(fileVariants), fileVariants);
+                })
                 .toList();
     }
 
+    /// 게시글별 첨부파일 (상세/목록 include=files)
+    // 게시글 수와 상관없이 첨부파일 IN 쿼리 한 번 + 변환본 IN 쿼리 한 번
+    public Map<Long, List<FilePostDetailsResponse>> getFilesByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Files> files = filesRepository.findByPostsIdInOrderByIdAsc(postIds);
+        Map<String, Map<String, String>> variants = imageDerivativeService.variantUrls(
+                files.stream().map(Files::getS3Key).toList());
+
+        return files.stream()
+                .collect(Collectors.groupingBy(
+                        file -> file.getPosts().getId(), // 프록시 id라 게시글 조회 안 함
+                        Collectors.mapping(
+                                file -> FilePostDetailsResponse.fromEntity(file,
+                                        imageDerivativeService.thumbnailOf(variants.get(file.getS3Key())),
+                                        variants.get(file.getS3Key())),
+                                Collectors.toList())));
+    }
+
     /// 다운로드 (presigned GET URL 발급)
     public FileDownloadResponse getDownloadUrl(Long fileId, Users currentUser) {
 
@@ -152,30 +390,29 @@ public class FilesService {
         Files file = filesRepository.findById(fileId)
                 .orElseThrow(() -> new IllegalArgumentException("파일을 찾을 수 없습니다."));
 
-        // Lambda에 보낼 요청 (Download용)
+        // 최근에 발급한 URL이 아직 유효하면 재사용 (presign 안 함)
+        String downloadUrl = downloadUrlCache.get(file.getS3Key(), () -> requestDownloadUrl(file));
+
+        return new FileDownloadResponse(
+                downloadUrl,
+                file.getOriginName()
+        );
+    }
+
+    // presigned GET URL 발급 요청
+    private LambdaDownloadResponse requestDownloadUrl(Files file) {
+        // Download용 요청
         LambdaDownloadRequest lambdaReq = new LambdaDownloadRequest(
                 file.getS3Key(),
                 "post-file",
                 file.getOriginName()
         );
 
-        String url = lambdaEndpoint + "/files/download";
-
-        LambdaDownloadResponse lambdaRes =
-                restTemplate.postForObject(url, lambdaReq, LambdaDownloadResponse.class);
-
-        if (lambdaRes == null || lambdaRes.getDownloadUrl() == null) {
-            log.error("[FILE-DOWNLOAD] Lambda 응답 오류: {}", lambdaRes);
-            throw new IllegalStateException("Lambda에서 다운로드 URL을 받지 못했습니다.");
-        }
+        LambdaDownloadResponse lambdaRes = presigner.presignDownload(lambdaReq);
 
         log.info("[FILE-DOWNLOAD] presigned URL 발급 완료: fileId={}, expires={}s",
-                fileId, lambdaRes.getExpireSeconds());
-
-        return new FileDownloadResponse(
-                lambdaRes.getDownloadUrl(),
-                file.getOriginName()
-        );
+                file.getId(), lambdaRes.getExpireSeconds());
+        return lambdaRes;
     }
 
     ///  삭제
@@ -194,12 +431,15 @@ public class FilesService {
             }
         }
 
-        // 현재는 DB에서만 soft delete 처리함
-        // S3 객체 제거도 해야하는데..
+        // DB에서는 soft delete만, S3 객체는 StorageGarbageCollector가 유예 기간 뒤 삭제
         filesRepository.delete(file);
+        downloadUrlCache.evict(file.getS3Key());
+        imageDerivativeService.orphanVariants(file.getS3Key());
     }
 
-    /// 수정 (기존 파일 삭제 + 새 파일 업로드)
+    /// 수정 (새 파일 업로드 + 기존 파일 삭제)
+    // - 새 파일을 먼저 올림 -> presign/PUT이 실패하면 기존 파일은 그대로
+    // - 새 행 저장, 기존 행 삭제, 변환본 정리는 한 트랜잭션, 캐시 비우기는 커밋 후
     public FileUploadResponse replaceFile(Long fileId, MultipartFile newFile, Users currentUser) throws Exception {
 
         if (newFile == null || newFile.isEmpty()) {
@@ -218,9 +458,17 @@ public class FilesService {
                 throw new UnauthenticatedException("수정 권한이 없습니다.");
             }
         }
-        filesRepository.delete(oldFile);
 
         // 같은 게시글에 대해 새 파일 업로드
-        return uploadSingleFile(newFile, post);
+        Files stored = storeObject(newFile, post);
+
+        Files saved = transactionTemplate.execute(status -> {
+            Files registered = register(List.of(stored)).get(0);
+            filesRepository.delete(oldFile);
+            imageDerivativeService.orphanVariants(oldFile.getS3Key());
+            AfterCommit.run(() -> downloadUrlCache.evict(oldFile.getS3Key()));
+            return registered;
+        });
+        return FileUploadResponse.fromEntity(saved);
     }
 }
\ No newline at end of file
@@ -1,4 +1,70 @@
 package com.example.community.service;
 
+import com.example.community.common.counter.CounterType;
+import com.example.community.common.exception.custom.ResourceNotFoundException;
+import com.example.community.dto.response.posts.PostLikeResponse;
+import com.example.community.entity.Users;
+import com.example.community.repository.PostLikesRepository;
+import com.example.community.repository.PostsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 좋아요
+ * - 좋아요/취소는 (user_id, post_id) unique 키에 INSERT IGNORE / DELETE 한 번
+ *   -> 여러 번 눌러도 결과가 같음 (멱등)
+ * - 실제로 행이 바뀐 경우에만 like_count 델타를 CounterBufferService에 쌓고 주기적으로 반영
+ *   -> 좋아요가 몰려도 posts 행에 락 경합이 없고 COUNT 쿼리도 안 돌림
+ */
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
 public class PostLikesService {
+
+    private final PostLikesRepository postLikesRepository;
+    private final PostsRepository postsRepository;
+    private final CounterBufferService counterBufferService;
+
+    // 1. 좋아요
+    public PostLikeResponse like(Long postId, Users users) {
+        long likeCount = findLikeCount(postId);
+
+        int inserted = postLikesRepository.insertIgnore(users.getId(), postId);
+        if (inserted > 0) {
+            counterBufferService.addAfterCommit(CounterType.POST_LIKE, postId, 1L);
+        }
+
+        return PostLikeResponse.of(postId, likeCount + inserted, true);
+    }
+
+    // 2. 좋아요 취소
+    public PostLikeResponse unlike(Long postId, Users users) {
+        long likeCount = findLikeCount(postId);
+
+        int deleted = postLikesRepository.deleteByUserIdAndPostId(users.getId(), postId);
+        if (deleted > 0) {
+            counterBufferService.addAfterCommit(CounterType.POST_LIKE, postId, -1L);
+        }
+
+        return PostLikeResponse.of(postId, Math.max(likeCount - deleted, 0L), false);
+    }
+
+    // 3. 좋아요 수 + 내가 눌렀는지 (비로그인이면 liked = false)
+    @Transactional(readOnly = true)
+    public PostLikeResponse getLikes(Long postId, Users users) {
+        long likeCount = findLikeCount(postId);
+        boolean liked = users != null && postLikesRepository.existsByUsersIdAndPostsId(users.getId(), postId);
+        return PostLikeResponse.of(postId, likeCount, liked);
+    }
+
+    // DB에 반영된 값 + 아직 반영 안 된 델타
+    private long findLikeCount(Long postId) {
+        Long stored = postsRepository.findLikeCountById(postId).orElseThrow(
+                () -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
+        return Math.max(stored + counterBufferService.pending(CounterType.POST_LIKE, postId), 0L);
+    }
 }
@@ -0,0 +1,221 @@
+package com.example.community.service;
+
+import com.example.community.common.exception.custom.BadRequestException;
+import com.example.community.common.exception.custom.ConflictedException;
+import com.example.community.common.tx.AfterCommit;
+import com.example.community.dto.request.posts.PostSearchRequest;
+import com.example.community.dto.response.posts.PostListResponse;
+import com.example.community.entity.Posts;
+import com.example.community.entity.Users;
+import com.example.community.repository.PostsRepository;
+import com.example.community.service.search.NgramTokenizer;
+import com.example.community.service.search.PostSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 검색 서비스
+ * LIKE '%...%' 대신 메모리 역색인(PostSearchIndex)으로 검색
+ * - 게시글 등록/수정/삭제, 닉네임 변경 시 커밋 후에 색인 반영 (롤백된 변경이 색인에 남지 않게)
+ * - 서버 시작 시(또는 관리자 요청 시) 전체 재색인, 그동안은 기존 LIKE 검색으로 대체
+ *   재색인 중에 들어온 변경은 기록해뒀다가 batch마다 다시 적용 (먼저 읽은 batch가 삭제/수정을 덮어쓰지 않게)
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PostsRepository postsRepository;
+
+    private final PostSearchIndex index = new PostSearchIndex();
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+    private volatile boolean ready = false;
+
+    // 재색인 중에 들어온 변경 (대상별 마지막 변경만, 들어온 순서대로) - 재색인 중이 아니면 null
+    private final ReentrantLock changeLock = new ReentrantLock();
+    private LinkedHashMap<String, Runnable> changedDuringRebuild;
+
+    // 게시글 검색
+    public Page<PostListResponse> search(PostSearchRequest request, Pageable pageable) {
+        validate(request);
+
+        // 색인 준비 전이면 기존 LIKE 검색
+        if (!ready) {
+            return searchByLike(request, pageable);
+        }
+
+        // 1) 점수순 게시글 id
+        List<Long> ranked = index.search(request.getTitle(), request.getContent(), request.getNickname());
+
+        // 2) 현재 페이지 id만 잘라서
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        List<Long> pageIds = ranked.subList(from, to);
+        if (pageIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ranked.size());
+        }
+
+        // 3) 한 번에 조회하고 점수 순서대로 다시 정렬
+        Map<Long, PostListResponse> found = postsRepository.findListByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+        List<PostListResponse> list = pageIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+
+        return new PageImpl<>(list, pageable, ranked.size());
+    }
+
+    // 색인 반영 (게시글 등록/수정) - 값은 지금 꺼내두고 커밋 후에 반영
+    public void index(Posts posts) {
+        Long postId = posts.getId();
+        String title = posts.getTitle();
+        String content = posts.getContent();
+        Users writer = posts.getUsers();
+        Long authorId = writer.getId();
+        String nickname = writer.getNickname();
+        AfterCommit.run(() -> apply("post:" + postId,
+                () -> index.index(postId, title, content, authorId, nickname)));
+    }
+
+    // 색인 삭제 (게시글 삭제)
+    public void remove(Long postId) {
+        AfterCommit.run(() -> apply("post:" + postId, () -> index.remove(postId)));
+    }
+
+    // 닉네임 변경 반영
+    public void updateAuthor(Users users) {
+        Long userId = users.getId();
+        String nickname = users.getNickname();
+        AfterCommit.run(() -> apply("user:" + userId, () -> index.updateAuthor(userId, nickname)));
+    }
+
+    // 색인에 바로 반영 + 재색인 중이면 기록 (batch 적용 후 다시 적용)
+    private void apply(String target, Runnable change) {
+        changeLock.lock();
+        try {
+            change.run();
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.remove(target); // 순서 유지: 마지막 변경을 맨 뒤로
+                changedDuringRebuild.put(target, change);
+            }
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    // 재색인 batch가 예전 값으로 덮어쓴 것 되돌리기
+    private void replayChanges() {
+        changeLock.lock();
+        try {
+            changedDuringRebuild.values().forEach(Runnable::run);
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    private void trackChanges(boolean track) {
+        changeLock.lock();
+        try {
+            changedDuringRebuild = track ? new LinkedHashMap<>() : null;
+        } finally {
+            changeLock.unlock();
+        }
+    }
+
+    // 서버 시작 시 전체 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        startRebuild();
+    }
+
+    // 전체 재색인 (백그라운드)
+    public void startRebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new ConflictedException("이미 검색 색인을 다시 만들고 있습니다.");
+        }
+
+        Thread.ofPlatform().name("post-search-rebuild").daemon(true).start(() -> {
+            try {
+                rebuild();
+            } finally {
+                rebuilding.set(false);
+            }
+        });
+    }
+
+    private void rebuild() {
+        long start = System.currentTimeMillis();
+        ready = false;
+        trackChanges(true);
+        try {
+            index.clear();
+
+            // id 기준으로 끊어서 읽음 (OFFSET 안 씀)
+            Pageable limit = PageRequest.of(0, REBUILD_BATCH_SIZE);
+            List<Posts> batch = postsRepository.findLatestWithUsers(limit);
+            while (!batch.isEmpty()) {
+                batch.forEach(posts -> index.index(posts.getId(), posts.getTitle(), posts.getContent(),
+                        posts.getUsers().getId(), posts.getUsers().getNickname()));
+                replayChanges();
+                Long lastId = batch.get(batch.size() - 1).getId();
+                batch = postsRepository.findWithUsersByIdLessThan(lastId, limit);
+            }
+
+            ready = true;
+            log.info("[POST-SEARCH] 색인 완료: posts={}, {}ms", index.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.error("[POST-SEARCH] 색인 실패 -> LIKE 검색으로 동작", e);
+        } finally {
+            trackChanges(false);
+        }
+    }
+
+    private void validate(PostSearchRequest request) {
+        String[] keywords = {request.getTitle(), request.getContent(), request.getNickname()};
+
+        boolean hasKeyword = false;
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isBlank()) {
+                continue;
+            }
+            if (NgramTokenizer.grams(keyword).isEmpty()) {
+                throw new BadRequestException("검색어는 2글자 이상 입력해주세요.");
+            }
+            hasKeyword = true;
+        }
+
+        if (!hasKeyword) {
+            throw new BadRequestException("검색어를 입력해주세요.");
+        }
+    }
+
+    private Page<PostListResponse> searchByLike(PostSearchRequest request, Pageable pageable) {
+        if (request.getTitle() != null && !request.getTitle().isBlank()) {
+            return postsRepository.findListTitleContaining(request.getTitle(), pageable);
+        } else if (request.getContent() != null && !request.getContent().isBlank()) {
+            return postsRepository.findListContentContaining(request.getContent(), pageable);
+        } else {
+            return postsRepository.findListNicknameContaining(request.getNickname(), pageable);
+        }
+    }
+}
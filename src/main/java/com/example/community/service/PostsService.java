@@ -1,9 +1,15 @@
 package com.example.community.service;
 
+import com.example.community.common.counter.CounterType;
+import com.example.community.common.exception.custom.BadRequestException;
 import com.example.community.common.exception.custom.ResourceNotFoundException;
+import com.example.community.common.response.CursorResponse;
 import com.example.community.common.exception.custom.UnauthenticatedException;
+import com.example.community.dto.request.posts.PostInclude;
+import com.example.community.dto.request.posts.PostSearchRequest;
 import com.example.community.dto.request.posts.PostUpdateRequest;
 import com.example.community.dto.request.posts.PostWriteRequest;
+import com.example.community.dto.response.files.FilePostDetailsResponse;
 import com.example.community.dto.response.posts.PostDetailsResponse;
 import com.example.community.dto.response.posts.PostListResponse;
 import com.example.community.dto.response.posts.PostWriteResponse;
@@ -11,15 +17,21 @@ import com.example.community.entity.Posts;
 import com.example.community.entity.Users;
 import com.example.community.repository.PostsRepository;
 import com.example.community.repository.UsersRepository;
-import jakarta.transaction.Transactional;
+import com.example.community.service.cache.PostDetailsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 
@@ -29,21 +41,69 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostsService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_DETAIL_COMMENT_SIZE = 100;
+
     private final UsersRepository usersRepository;
     private final PostsRepository postsRepository;
+    private final CounterBufferService counterBufferService;
+    private final PostSearchService postSearchService;
+    private final PostDetailsCache postDetailsCache;
+    private final FilesService filesService;
+    private final CommentsService commentsService;
 
     // 게시글 목록 조회
-    public Page<PostListResponse> getAllPosts(Pageable pageable) {
-        Page<Posts> posts = postsRepository.findAllWithUsers(pageable);
-        List<PostListResponse> list = posts.getContent().stream()
-                .map(PostListResponse::fromEntity)
-                .collect(Collectors.toList());
-        return new PageImpl<>(list, pageable, posts.getTotalElements());
+    @Transactional(readOnly = true)
+    public Page<PostListResponse> getAllPosts(Pageable pageable, Set<PostInclude> includes) {
+        Page<PostListResponse> posts = postsRepository.findList(pageable);
+        return new PageImpl<>(expand(posts.getContent(), includes), pageable, posts.getTotalElements());
+    }
+
+    // 게시글 목록 조회 (전체 개수 없이)
+    @Transactional(readOnly = true)
+    public Slice<PostListResponse> getAllPostsSlice(Pageable pageable, Set<PostInclude> includes) {
+        Slice<PostListResponse> posts = postsRepository.findListSlice(pageable);
+        return new SliceImpl<>(expand(posts.getContent(), includes), pageable, posts.hasNext());
+    }
+
+    // 게시글 목록 조회 (커서 기반, 무한 스크롤용)
+    @Transactional(readOnly = true)
+    public CursorResponse<PostListResponse> getPostsByCursor(String cursor, int size, Set<PostInclude> includes) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("size는 1 ~ " + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+        }
+
+        // 다음 페이지가 있는지 알기 위해 하나 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<PostListResponse> list = (cursor == null || cursor.isBlank())
+                ? postsRepository.findLatestList(limit)
+                : postsRepository.findListByIdLessThan(CursorResponse.decodeCursor(cursor), limit);
+
+        CursorResponse<PostListResponse> page = CursorResponse.of(list, size, PostListResponse::getId);
+        return new CursorResponse<>(expand(page.getContent(), includes), page.getSize(), page.isHasNext(), page.getNextCursor());
     }
 
     // 게시글 검색
-    // ...
+    @Transactional(readOnly = true)
+    public Page<PostListResponse> search(PostSearchRequest postSearchRequest, Pageable pageable, Set<PostInclude> includes) {
+        Page<PostListResponse> result = postSearchService.search(postSearchRequest, pageable);
+        return new PageImpl<>(expand(result.getContent(), includes), pageable, result.getTotalElements());
+    }
+
+    // 목록에 include 항목 붙이기
+    // 첨부파일은 페이지의 게시글 id 전부 IN 쿼리 한 번으로 (게시글마다 조회 X)
+    private List<PostListResponse> expand(List<PostListResponse> list, Set<PostInclude> includes) {
+        if (!includes.contains(PostInclude.FILES) || list.isEmpty()) {
+            return list;
+        }
+
+        Map<Long, List<FilePostDetailsResponse>> files = filesService.getFilesByPostIds(
+                list.stream().map(PostListResponse::getId).toList());
 
+        return list.stream()
+                .map(post -> post.withFiles(files.getOrDefault(post.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
 
     // 게시글 등록
     public PostWriteResponse write(PostWriteRequest postWriteRequest, Users users) {
@@ -61,29 +121,61 @@ public class PostsService {
         // 4) 저장
         Posts savedPosts = postsRepository.save(posts);
 
-        // 5) 응답 변환
+        // 5) 검색 색인 반영
+        postSearchService.index(savedPosts);
+
+        // 6) 응답 변환
         return PostWriteResponse.fromEntity(savedPosts);
     }
 
     // 게시글 상세 조회
-    public PostDetailsResponse detail(Long postId) {
-        // 조회수 증가
-        postsRepository.incrementViewCount(postId);
-
-        // 게시글 조회 (최신 상태로...)
-        Posts findPost = postsRepository.findByIdWithUsers(postId).orElseThrow(
-                () -> new ResourceNotFoundException("게시글을 찾을 수 없습니다."));
-        return PostDetailsResponse.fromEntity(findPost);
+    // include=comments 면 댓글 첫 페이지(commentSize개)까지 한 번에 -> 댓글 목록 API 따로 안 불러도 됨
+    // users: 로그인한 사용자 (댓글 좋아요 여부 표시용, 비로그인이면 null)
+    // 조회수는 메모리 버퍼에만 쌓고 DB 쓰기가 없어서 readOnly (replica 라우팅 대상)
+    @Transactional(readOnly = true)
+    public PostDetailsResponse detail(Long postId, Set<PostInclude> includes, Users users, int commentSize) {
+        if (includes.contains(PostInclude.COMMENTS) && (commentSize < 1 || commentSize > MAX_DETAIL_COMMENT_SIZE)) {
+            throw new BadRequestException("commentSize는 1 ~ " + MAX_DETAIL_COMMENT_SIZE + " 사이여야 합니다.");
+        }
+
+        // 게시글 조회 (캐시에 없을 때만 DB 조회)
+        PostDetailsResponse cached = postDetailsCache.get(postId,
+                () -> postsRepository.findByIdWithUsers(postId).orElseThrow(
+                        () -> new ResourceNotFoundException("게시글을 찾을 수 없습니다.")));
+
+        // 조회수 증가 (바로 UPDATE 안 하고 메모리에 모아뒀다가 주기적으로 반영)
+        long pendingViewCount = counterBufferService.increment(CounterType.POST_VIEW, postId);
+
+        // 아직 반영 안 된 조회수, 좋아요수, 댓글수까지 더해서 응답
+        PostDetailsResponse response = cached.withPendingCounts(pendingViewCount,
+                counterBufferService.pending(CounterType.POST_LIKE, postId),
+                counterBufferService.pending(CounterType.POST_COMMENT, postId));
+
+        // 첨부파일은 캐시에 안 넣음 (파일 추가/삭제 때마다 무효화 안 해도 되게)
+        if (includes.contains(PostInclude.FILES)) {
+            response = response.withFiles(filesService.getFilesByPostIds(List.of(postId))
+                    .getOrDefault(postId, List.of()));
+        }
+
+        // 댓글도 캐시에 안 넣음 (좋아요 여부가 사용자마다 다름)
+        if (includes.contains(PostInclude.COMMENTS)) {
+            response = response.withComments(commentsService.getFirstComments(postId, users, commentSize));
+        }
+        return response;
     }
 
     // 마이페이지 - 사용자별 게시글 목록(조회 말고 목록!)
-    public Page<PostListResponse> getMyPosts(Pageable pageable, Users users) {
-        Page<Posts> findPost = postsRepository.findAllByUsers(pageable, users);
-        List<PostListResponse> list = findPost.getContent().stream()
-                .map(PostListResponse::fromEntity)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<PostListResponse> getMyPosts(Pageable pageable, Users users, Set<PostInclude> includes) {
+        Page<PostListResponse> findPost = postsRepository.findListByUserId(users.getId(), pageable);
+        return new PageImpl<>(expand(findPost.getContent(), includes), pageable, findPost.getTotalElements());
+    }
 
-        return new PageImpl<>(list, pageable, findPost.getTotalElements());
+    // 마이페이지 - 사용자별 게시글 목록 (전체 개수 없이)
+    @Transactional(readOnly = true)
+    public Slice<PostListResponse> getMyPostsSlice(Pageable pageable, Users users, Set<PostInclude> includes) {
+        Slice<PostListResponse> findPost = postsRepository.findListSliceByUserId(users.getId(), pageable);
+        return new SliceImpl<>(expand(findPost.getContent(), includes), pageable, findPost.hasNext());
     }
 
     // 게시글 수정
@@ -97,12 +189,19 @@ public class PostsService {
 
         updatePost.update(postUpdateRequest.getTitle(), postUpdateRequest.getContent());
         postsRepository.saveAndFlush(updatePost ); // updated_at 채워지게
-        return PostDetailsResponse.fromEntity(updatePost);
+        postSearchService.index(updatePost);
+        postDetailsCache.evict(postId);
+        return PostDetailsResponse.fromEntity(updatePost,
+                counterBufferService.pending(CounterType.POST_VIEW, postId),
+                counterBufferService.pending(CounterType.POST_LIKE, postId),
+                counterBufferService.pending(CounterType.POST_COMMENT, postId));
     }
 
     // 게시글 삭제
     public void delete(Long postId) {
         postsRepository.deleteById(postId);
+        postSearchService.remove(postId);
+        postDetailsCache.evict(postId);
     }
 
 }
\ No newline at end of file
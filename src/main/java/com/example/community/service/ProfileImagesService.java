@@ -3,18 +3,20 @@ package com.example.community.service;
 import com.example.community.dto.request.files.LambdaUploadRequest;
 import com.example.community.dto.response.files.LambdaUploadResponse;
 import com.example.community.dto.response.files.ProfileImageResponse;
+import com.example.community.entity.OrphanObjects;
 import com.example.community.entity.Users;
+import com.example.community.repository.OrphanObjectsRepository;
 import com.example.community.repository.UsersRepository;
-import jakarta.transaction.Transactional;
+import com.example.community.security.jwt.PrincipalCache;
+import com.example.community.service.storage.ImageDerivativeService;
+import com.example.community.service.storage.PresignedUrlUploader;
+import com.example.community.service.storage.Presigner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.net.HttpURLConnection;
-import java.net.URL;
 import java.util.UUID;
 
 @Service
@@ -24,10 +26,11 @@ import java.util.UUID;
 public class ProfileImagesService {
 
     private final UsersRepository usersRepository;
-    private final RestTemplate restTemplate;
-
-    @Value("${lambda.file.endpoint}")
-    private String lambdaEndpoint;
+    private final Presigner presigner;
+    private final PresignedUrlUploader presignedUrlUploader;
+    private final PrincipalCache principalCache;
+    private final OrphanObjectsRepository orphanObjectsRepository;
+    private final ImageDerivativeService imageDerivativeService;
 
     /**
      * 프로필 이미지 업로드 (한 장)
@@ -42,11 +45,7 @@ public class ProfileImagesService {
         validateImage(file);
 
 
-        // 기존 이미지가 있다면 로깅만 (S3 삭제는 TODO)
         String oldKey = user.getProfileImageKey();
-        if (oldKey != null) {
-            log.info("[PROFILE-IMAGE] 기존 프로필 이미지 존재: userId={}, oldKey={}", userId, oldKey);
-        }
 
         // 2. S3 key 생성 (profiles/{userId}/uuid.ext)
         String originalFilename = file.getOriginalFilename();
@@ -57,7 +56,7 @@ public class ProfileImagesService {
 
         String key = "profiles/" + user.getId() + "/" + UUID.randomUUID() + ext;
 
-        // 3. Lambda에 Presigned URL 요청
+        // 3. Presigned URL 요청 (Lambda 또는 로컬 서명)
         LambdaUploadRequest lambdaReq = new LambdaUploadRequest(
                 key,
                 file.getContentType(),
@@ -67,20 +66,18 @@ public class ProfileImagesService {
                 "profile"                       // fileCategory
         );
 
-        String url = lambdaEndpoint + "/files";
-
-        LambdaUploadResponse lambdaRes =
-                restTemplate.postForObject(url, lambdaReq, LambdaUploadResponse.class);
-
-        if (lambdaRes == null || lambdaRes.getUploadUrl() == null) {
-            throw new IllegalStateException("Lambda에서 업로드 URL을 받지 못했습니다.");
-        }
+        LambdaUploadResponse lambdaRes = presigner.presignUpload(lambdaReq);
 
         // 4. Presigned URL로 S3 업로드 (PUT)
-        uploadToPresignedUrl(lambdaRes.getUploadUrl(), file);
+        presignedUrlUploader.upload(lambdaRes.getUploadUrl(), file);
 
         // 5. Users 엔티티에 프로필 이미지 정보 저장 (교체 포함)
         user.updateProfileImage(key, lambdaRes.getFileUrl());
+        principalCache.evictByUserId(userId); // 캐시된 인증 정보 갱신
+        imageDerivativeService.generateAfterCommit(key, file.getContentType()); // 썸네일은 커밋 후 비동기로
+
+        // 6. 기존 이미지는 GC 대상으로 등록 (StorageGarbageCollector가 유예 기간 뒤 S3에서 삭제)
+        markOrphan(userId, oldKey);
 
         return ProfileImageResponse.fromEntity(user);
     }
@@ -93,11 +90,20 @@ public class ProfileImagesService {
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
 
         String oldKey = user.getProfileImageKey();
-        if (oldKey != null) {
-            log.info("[PROFILE-IMAGE] 프로필 삭제 요청: userId={}, oldKey={}", userId, oldKey);
-        }
 
         user.removeProfileImage(null, null); // 내부에서 key/url을 null로 셋팅
+        principalCache.evictByUserId(userId);
+        markOrphan(userId, oldKey);
+    }
+
+    // 더 이상 안 쓰는 프로필 이미지 key 기록
+    private void markOrphan(Long userId, String oldKey) {
+        if (oldKey == null) {
+            return;
+        }
+        log.info("[PROFILE-IMAGE] 기존 프로필 이미지 GC 등록: userId={}, oldKey={}", userId, oldKey);
+        orphanObjectsRepository.save(OrphanObjects.of(oldKey, "profile"));
+        imageDerivativeService.orphanVariants(oldKey); // 썸네일도 같이
     }
 
     private void validateImage(MultipartFile file) {
@@ -109,22 +115,4 @@ public class ProfileImagesService {
             throw new IllegalArgumentException("이미지 파일만 업로드할 수 있습니다.");
         }
     }
-
-    private void uploadToPresignedUrl(String uploadUrl, MultipartFile file) throws Exception {
-        URL url = new URL(uploadUrl);
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-
-        conn.setDoOutput(true);
-        conn.setRequestMethod("PUT");
-        conn.setRequestProperty("Content-Type", file.getContentType());
-
-        try (var os = conn.getOutputStream()) {
-            os.write(file.getBytes());
-        }
-
-        int code = conn.getResponseCode();
-        if (code < 200 || code >= 300) {
-            throw new RuntimeException("S3 업로드 실패: HTTP " + code);
-        }
-    }
 }
\ No newline at end of file
@@ -14,7 +14,9 @@ import com.example.community.dto.response.users.UserResponse;
 import com.example.community.entity.Users;
 import com.example.community.repository.UsersRepository;
 import com.example.community.security.jwt.JwtTokenUtil;
-import jakarta.transaction.Transactional;
+import com.example.community.security.jwt.PrincipalCache;
+import com.example.community.service.cache.PostDetailsCache;
+import com.example.community.service.storage.ImageDerivativeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -26,8 +28,10 @@ import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -41,6 +45,10 @@ public class UsersService {
     private final AuthenticationManager authenticationManager;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenUtil jwtTokenUtil;
+    private final PostSearchService postSearchService;
+    private final PrincipalCache principalCache;
+    private final PostDetailsCache postDetailsCache;
+    private final ImageDerivativeService imageDerivativeService;
 
     // 1. 회원가입
     // 1-1. 이메일 중복 체크
@@ -154,6 +162,7 @@ public class UsersService {
             checkPassword(request.getNewPassword(), request.getNewPasswordCheck());
             String encodedPassword = passwordEncoder.encode(request.getNewPassword());
             updatePasswordUser.changePassword(encodedPassword);
+            principalCache.evictByEmail(updatePasswordUser.getEmail()); // 캐시된 인증 정보 갱신
         }
 
         // 리턴
@@ -176,6 +185,9 @@ public class UsersService {
         // 닉네임 변경
         if (!user.getNickname().equals(request.getNickname())) {
             updateNicknameUser.changeNickname(request.getNickname());
+            postSearchService.updateAuthor(updateNicknameUser); // 검색 색인 닉네임도 변경
+            principalCache.evictByEmail(updateNicknameUser.getEmail()); // 캐시된 인증 정보 갱신
+            postDetailsCache.evictByAuthor(updateNicknameUser.getId()); // 캐시된 게시글 상세의 닉네임도
         }
 
         // 리턴
@@ -185,19 +197,28 @@ public class UsersService {
     public UserResponse getUserInfo(Users user) {
         Users users = usersRepository.findById(user.getId())
                 .orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다."));
-        return UserResponse.fromEntity(users);
+        return UserResponse.fromEntity(users, imageDerivativeService.thumbnailUrl(users.getProfileImageKey()));
     }
 
 
     // 4. 마이페이지 - 관리자, 회원 탈퇴
     // soft delete
-    public void delete(Long id) { usersRepository.deleteById(id); }
+    public void delete(Long id) {
+        usersRepository.deleteById(id);
+        principalCache.evictByUserId(id); // 탈퇴한 사용자 토큰으로 더 이상 인증 안 되게
+    }
 
     // 5. 관리자 - 회원 전체 조회
+    @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(Pageable pageable) {
         Page<Users> users = usersRepository.findAll(pageable);
+
+        // 프로필 썸네일은 한 번에 조회
+        Map<String, String> thumbnails = imageDerivativeService.thumbnailUrls(
+                users.getContent().stream().map(Users::getProfileImageKey).toList());
+
         List<UserResponse> list = users.getContent().stream()
-                .map(UserResponse::fromEntity)
+                .map(u -> UserResponse.fromEntity(u, thumbnails.get(u.getProfileImageKey())))
                 .collect(Collectors.toList());
         return new PageImpl<>(list, pageable, users.getTotalElements());
     }
@@ -0,0 +1,113 @@
+package com.example.community.service.cache;
+
+import com.example.community.common.cache.CoalescingLoader;
+import com.example.community.common.counter.CounterFlushedEvent;
+import com.example.community.common.counter.CounterResetEvent;
+import com.example.community.common.counter.CounterType;
+import com.example.community.common.tx.AfterCommit;
+import com.example.community.dto.response.posts.PostDetailsResponse;
+import com.example.community.entity.Posts;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 캐시 (postId -> DB 기준 상세 응답)
+ * - 크기/TTL 제한 (posts.detail-cache.*), 히트/미스는 cache.* 메트릭으로 (name=postDetails)
+ * - 조회수/좋아요수/댓글수는 캐시 값에 CounterBufferService의 아직 반영 안 된 델타를 더해서 응답
+ * - 카운터가 DB에 반영되면(CounterFlushedEvent) 반영된 델타를 캐시 값에 더함 (본문 다시 로딩 안 하게)
+ *   DB 조회가 flush 시작(drain) 전에 끝난 값만 델타가 확실히 빠져 있음 -> 그것만 더하고,
+ *   조회가 flush 도중/이후에 끝난 값은 UPDATE가 이미 들어갔을 수 있으니 비움 (두 번 더하지 않게)
+ * - 보정 작업이 값을 덮어쓰면(CounterResetEvent) 해당 게시글은 비움
+ * - 수정/삭제/작성자 닉네임 변경 시 커밋 후에 비움
+ */
+
+@Component
+public class PostDetailsCache {
+
+    private static final String CACHE_NAME = "postDetails";
+    private static final String POSTS_TABLE = "posts";
+
+    private final Cache<Long, CachedPost> cache;
+    private final CoalescingLoader<Long, CachedPost> loader;
+
+    public PostDetailsCache(
+            @Value("${posts.detail-cache.max-size:1000}") long maxSize,
+            @Value("${posts.detail-cache.ttl-seconds:300}") long ttlSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.loader = new CoalescingLoader<>(cache);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 캐시에 있으면 반환, 없으면 finder로 DB 조회 (같은 게시글 동시 미스는 한 번만 조회, 조회는 캐시 락 밖에서)
+    public PostDetailsResponse get(Long postId, Supplier<Posts> finder) {
+        return loader.get(postId, id -> {
+            Posts posts = finder.get();
+            long loadedAt = System.nanoTime(); // DB 조회 끝난 시각
+            return new CachedPost(PostDetailsResponse.fromEntity(posts), posts.getUsers().getId(), loadedAt);
+        }).details();
+    }
+
+    public void evict(Long postId) {
+        AfterCommit.run(() -> loader.invalidate(postId));
+    }
+
+    // 작성자 닉네임이 바뀌면 그 사람 게시글 전부
+    public void evictByAuthor(Long userId) {
+        AfterCommit.run(() -> {
+            loader.cancelLoads();
+            cache.asMap().values().removeIf(cached -> cached.authorId().equals(userId));
+        });
+    }
+
+    // 조회수/좋아요수/댓글수가 DB에 반영되면 캐시된 값에도 같은 델타를 더함
+    // drain 전에 조회가 끝났으면 그 값엔 이번 UPDATE가 없음 -> 더함, 아니면 들어 있을 수도 있음 -> 비움
+    @EventListener
+    public void onCounterFlushed(CounterFlushedEvent event) {
+        if (!POSTS_TABLE.equals(event.type().getTable())) {
+            return;
+        }
+        event.deltas().forEach((postId, delta) -> loader.update(postId, cached ->
+                cached.loadedAt() < event.startedAt() ? cached.plus(event.type(), delta) : null));
+    }
+
+    // 보정 작업으로 값이 덮어써지면 비움
+    @EventListener
+    public void onCounterReset(CounterResetEvent event) {
+        if (POSTS_TABLE.equals(event.type().getTable())) {
+            evictAll(event.ids());
+        }
+    }
+
+    private void evictAll(Collection<Long> postIds) {
+        loader.invalidateAll(postIds);
+    }
+
+    private record CachedPost(PostDetailsResponse details, Long authorId, long loadedAt) {
+
+        // DB에 반영된 델타를 캐시 값에도 반영
+        CachedPost plus(CounterType type, long delta) {
+            PostDetailsResponse updated = switch (type) {
+                case POST_VIEW -> details.withPendingCounts(delta, 0L, 0L);
+                case POST_LIKE -> details.withPendingCounts(0L, delta, 0L);
+                case POST_COMMENT -> details.withPendingCounts(0L, 0L, delta);
+                default -> details;
+            };
+            return new CachedPost(updated, authorId, loadedAt);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.community.service.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 검색용 bigram(2-gram) 토크나이저
+ * 한글은 형태소 분석 없이도 2글자씩 자르면 부분 검색이 잘 됨 ("스프링부트" -> 스프, 프링, 링부, 부트)
+ * - NFKC 정규화 + 소문자
+ * - 글자/숫자가 아닌 문자(공백, 특수문자)로 단어를 나누고 단어 안에서만 자름
+ * - 이모지 같은 surrogate pair가 깨지지 않게 code point 단위로 자름
+ */
+public final class NgramTokenizer {
+
+    private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final int GRAM_SIZE = 2;
+
+    private NgramTokenizer() {
+    }
+
+    // 문서 색인용: gram -> 등장 횟수
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        forEachGram(text, gram -> frequencies.merge(gram, 1, Integer::sum));
+        return frequencies;
+    }
+
+    // 검색어용: 중복 없는 gram
+    public static Set<String> grams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        forEachGram(text, grams::add);
+        return grams;
+    }
+
+    private static void forEachGram(String text, Consumer<String> consumer) {
+        if (text == null || text.isBlank()) {
+            return;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        for (String word : DELIMITER.split(normalized)) {
+            int[] codePoints = word.codePoints().toArray();
+            for (int i = 0; i + GRAM_SIZE <= codePoints.length; i++) {
+                consumer.accept(new String(codePoints, i, GRAM_SIZE));
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.community.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 검색용 메모리 역색인 (gram -> 게시글 목록)
+ * - 제목/내용은 게시글 단위, 닉네임은 작성자 단위로 색인 (닉네임 바뀌면 작성자만 다시 색인)
+ * - 검색어의 gram이 전부 들어있는 게시글만 결과 (AND)
+ * - 점수 = gram 등장 횟수 * 필드 가중치 (제목 > 닉네임 > 내용)
+ *
+ * 쓰기(색인/삭제)는 락 하나로 순서대로, 읽기(검색)는 락 없이 동시에 처리
+ */
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int NICKNAME_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+
+    // gram -> (postId -> 등장 횟수)
+    private final Map<String, Map<Long, Integer>> titlePostings = new ConcurrentHashMap<>();
+    private final Map<String, Map<Long, Integer>> contentPostings = new ConcurrentHashMap<>();
+    // gram -> (authorId -> 등장 횟수)
+    private final Map<String, Map<Long, Integer>> nicknamePostings = new ConcurrentHashMap<>();
+
+    // 수정/삭제할 때 기존 gram을 지우려고 들고 있는 정방향 색인
+    private final Map<Long, IndexedPost> posts = new ConcurrentHashMap<>();
+    private final Map<Long, Map<String, Integer>> authors = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> authorPosts = new ConcurrentHashMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private record IndexedPost(Long authorId, Map<String, Integer> title, Map<String, Integer> content) {
+    }
+
+    // 게시글 색인 (이미 있으면 교체)
+    public void index(Long postId, String title, String content, Long authorId, String nickname) {
+        Map<String, Integer> titleTf = NgramTokenizer.termFrequencies(title);
+        Map<String, Integer> contentTf = NgramTokenizer.termFrequencies(content);
+
+        writeLock.lock();
+        try {
+            removeInternal(postId);
+            posts.put(postId, new IndexedPost(authorId, titleTf, contentTf));
+            addPostings(titlePostings, postId, titleTf);
+            addPostings(contentPostings, postId, contentTf);
+            authorPosts.computeIfAbsent(authorId, key -> ConcurrentHashMap.newKeySet()).add(postId);
+            updateAuthorInternal(authorId, nickname);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 게시글 색인 삭제
+    public void remove(Long postId) {
+        writeLock.lock();
+        try {
+            removeInternal(postId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 닉네임 변경 반영
+    public void updateAuthor(Long authorId, String nickname) {
+        writeLock.lock();
+        try {
+            updateAuthorInternal(authorId, nickname);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void clear() {
+        writeLock.lock();
+        try {
+            titlePostings.clear();
+            contentPostings.clear();
+            nicknamePostings.clear();
+            posts.clear();
+            authors.clear();
+            authorPosts.clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        return posts.size();
+    }
+
+    // 검색 -> 점수 높은 순 postId (점수 같으면 최신 글 먼저)
+    // 값이 있는 필드끼리는 AND
+    public List<Long> search(String title, String content, String nickname) {
+        Map<Long, Integer> scores = null;
+
+        if (hasText(title)) {
+            scores = intersect(scores, match(titlePostings, NgramTokenizer.grams(title), TITLE_WEIGHT));
+        }
+        if (hasText(content)) {
+            scores = intersect(scores, match(contentPostings, NgramTokenizer.grams(content), CONTENT_WEIGHT));
+        }
+        if (hasText(nickname)) {
+            scores = intersect(scores, matchAuthors(NgramTokenizer.grams(nickname)));
+        }
+        if (scores == null) {
+            return List.of();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder())))
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // gram이 전부 들어있는 문서만 -> 등장 횟수 합 * 가중치
+    private Map<Long, Integer> match(Map<String, Map<Long, Integer>> postings, Set<String> grams, int weight) {
+        List<Map<Long, Integer>> lists = new ArrayList<>();
+        for (String gram : grams) {
+            Map<Long, Integer> list = postings.get(gram);
+            if (list == null || list.isEmpty()) {
+                return Map.of();
+            }
+            lists.add(list);
+        }
+        if (lists.isEmpty()) {
+            return Map.of();
+        }
+
+        // 제일 짧은 목록부터 돌면서 나머지에 다 있는지 확인
+        lists.sort(Comparator.comparingInt(Map::size));
+        Map<Long, Integer> scores = new HashMap<>();
+        candidates:
+        for (Long id : lists.getFirst().keySet()) {
+            int score = 0;
+            for (Map<Long, Integer> list : lists) {
+                Integer tf = list.get(id);
+                if (tf == null) {
+                    continue candidates;
+                }
+                score += tf;
+            }
+            scores.put(id, score * weight);
+        }
+        return scores;
+    }
+
+    // 닉네임으로 작성자 찾고 -> 그 작성자의 게시글로 펼침
+    private Map<Long, Integer> matchAuthors(Set<String> grams) {
+        Map<Long, Integer> scores = new HashMap<>();
+        match(nicknamePostings, grams, NICKNAME_WEIGHT).forEach((authorId, score) ->
+                authorPosts.getOrDefault(authorId, Set.of()).forEach(postId -> scores.put(postId, score)));
+        return scores;
+    }
+
+    // 두 결과 모두에 있는 문서만 남기고 점수 합산
+    private Map<Long, Integer> intersect(Map<Long, Integer> current, Map<Long, Integer> next) {
+        if (current == null) {
+            return next;
+        }
+        Map<Long, Integer> result = new HashMap<>();
+        current.forEach((id, score) -> {
+            Integer other = next.get(id);
+            if (other != null) {
+                result.put(id, score + other);
+            }
+        });
+        return result;
+    }
+
+    private void removeInternal(Long postId) {
+        IndexedPost old = posts.remove(postId);
+        if (old == null) {
+            return;
+        }
+        removePostings(titlePostings, postId, old.title());
+        removePostings(contentPostings, postId, old.content());
+
+        Set<Long> ids = authorPosts.get(old.authorId());
+        if (ids != null) {
+            ids.remove(postId);
+        }
+    }
+
+    private void updateAuthorInternal(Long authorId, String nickname) {
+        Map<String, Integer> grams = NgramTokenizer.termFrequencies(nickname);
+        Map<String, Integer> old = authors.put(authorId, grams);
+        if (grams.equals(old)) {
+            return;
+        }
+        if (old != null) {
+            removePostings(nicknamePostings, authorId, old);
+        }
+        addPostings(nicknamePostings, authorId, grams);
+    }
+
+    private static void addPostings(Map<String, Map<Long, Integer>> postings, Long id, Map<String, Integer> tf) {
+        tf.forEach((gram, count) ->
+                postings.computeIfAbsent(gram, key -> new ConcurrentHashMap<>()).put(id, count));
+    }
+
+    private static void removePostings(Map<String, Map<Long, Integer>> postings, Long id, Map<String, Integer> tf) {
+        for (String gram : tf.keySet()) {
+            Map<Long, Integer> list = postings.get(gram);
+            if (list == null) {
+                continue;
+            }
+            list.remove(id);
+            if (list.isEmpty()) {
+                postings.remove(gram, list);
+            }
+        }
+    }
+
+    private static boolean hasText(String text) {
+        return text != null && !text.isBlank();
+    }
+}
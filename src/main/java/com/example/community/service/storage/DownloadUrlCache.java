@@ -0,0 +1,89 @@
+package com.example.community.service.storage;
+
+import com.example.community.common.cache.CoalescingLoader;
+import com.example.community.dto.response.files.LambdaDownloadResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * presigned GET URL 캐시 (s3Key -> URL)
+ * - URL 만료 시간(expireSeconds)에서 여유(safety-margin)를 뺀 만큼만 보관 -> 만료 직전 URL을 주지 않게
+ * - 같은 key 동시 미스는 Lambda 한 번만 호출
+ * - 파일 삭제/교체 시 evict
+ */
+
+@Component
+public class DownloadUrlCache {
+
+    private static final String CACHE_NAME = "downloadUrls";
+
+    private final Cache<String, CachedUrl> cache;
+    private final CoalescingLoader<String, CachedUrl> loader;
+    private final long safetyMarginSeconds;
+
+    public DownloadUrlCache(
+            @Value("${files.download-url-cache.max-size:10000}") long maxSize,
+            @Value("${files.download-url-cache.safety-margin-seconds:30}") long safetyMarginSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        this.safetyMarginSeconds = safetyMarginSeconds;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UrlExpiry())
+                .recordStats()
+                .build();
+        this.loader = new CoalescingLoader<>(cache);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // 캐시에 있으면 반환, 없으면 presign 호출로 발급받아 저장 (HTTP 호출은 캐시 락 밖에서)
+    public String get(String s3Key, Supplier<LambdaDownloadResponse> presign) {
+        return loader.get(s3Key, key -> {
+            LambdaDownloadResponse response = presign.get();
+            return new CachedUrl(response.getDownloadUrl(), cacheSeconds(response.getExpireSeconds()));
+        }).downloadUrl();
+    }
+
+    public void evict(String s3Key) {
+        if (s3Key != null) {
+            loader.invalidate(s3Key);
+        }
+    }
+
+    // 만료 시간을 모르면 캐시하지 않음 (0초)
+    private long cacheSeconds(Long expireSeconds) {
+        if (expireSeconds == null) {
+            return 0L;
+        }
+        return Math.max(0L, expireSeconds - safetyMarginSeconds);
+    }
+
+    private record CachedUrl(String downloadUrl, long cacheSeconds) {
+    }
+
+    private static class UrlExpiry implements Expiry<String, CachedUrl> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedUrl value, long currentTime) {
+            return TimeUnit.SECONDS.toNanos(value.cacheSeconds());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedUrl value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedUrl value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
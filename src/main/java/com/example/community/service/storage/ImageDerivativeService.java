@@ -0,0 +1,348 @@
+package com.example.community.service.storage;
+
+import com.example.community.common.tx.AfterCommit;
+import com.example.community.entity.ImageVariants;
+import com.example.community.entity.OrphanObjects;
+import com.example.community.repository.FilesRepository;
+import com.example.community.repository.ImageVariantsRepository;
+import com.example.community.repository.OrphanObjectsRepository;
+import com.example.community.repository.UsersRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 업로드된 이미지의 썸네일/리사이즈 이미지 생성 (비동기)
+ * - 업로드 커밋 후 작은 전용 풀(pool-size, queue-capacity)에서 처리 -> 요청 스레드는 기다리지 않음
+ *   큐가 꽉 차면 그냥 건너뜀 (원본은 그대로 쓸 수 있으니까)
+ * - 원본을 S3에서 읽어서 sizes(최대 변 길이)별로 줄이고 variants/{원본 key}/w{size}.{ext} 로 저장
+ *   ImageIO에 WebP writer가 있으면 WebP 버전도 같이
+ * - 생성한 key는 image_variants에 기록
+ *   응답 thumbnailUrl은 항상 thumbnail-size 크기의 jpeg/png 변환본 (WebP를 못 읽는 클라이언트도 있어서)
+ *   WebP/다른 크기는 variants(이름 -> URL)로 따로
+ * - 대기/변환 중에 원본이 삭제·교체됐으면 만든 변환본은 바로 orphan_objects로 (저장소에 안 남게)
+ * - 메트릭: images.derivative.tasks (result)
+ */
+
+@Slf4j
+@Service
+public class ImageDerivativeService {
+
+    private static final String VARIANT_PREFIX = "variants/";
+
+    private final StorageObjects storageObjects;
+    private final ImageVariantsRepository imageVariantsRepository;
+    private final OrphanObjectsRepository orphanObjectsRepository;
+    private final FilesRepository filesRepository;
+    private final UsersRepository usersRepository;
+    private final ThreadPoolExecutor executor;
+
+    private final boolean enabled;
+    private final List<Integer> sizes;
+    private final String thumbnailVariant;
+    private final boolean webpAvailable;
+    private final long maxSourceBytes;
+    private final long maxSourcePixels;
+    private final float quality;
+
+    private final Counter generatedCounter;
+    private final Counter skippedCounter;
+    private final Counter failedCounter;
+
+    public ImageDerivativeService(
+            StorageObjects storageObjects,
+            ImageVariantsRepository imageVariantsRepository,
+            OrphanObjectsRepository orphanObjectsRepository,
+            FilesRepository filesRepository,
+            UsersRepository usersRepository,
+            MeterRegistry meterRegistry,
+            @Value("${images.derivative.enabled:true}") boolean enabled,
+            @Value("${images.derivative.sizes:128,512}") String sizes,
+            @Value("${images.derivative.thumbnail-size:128}") int thumbnailSize,
+            @Value("${images.derivative.webp-enabled:true}") boolean webpEnabled,
+            @Value("${images.derivative.pool-size:2}") int poolSize,
+            @Value("${images.derivative.queue-capacity:100}") int queueCapacity,
+            @Value("${images.derivative.max-source-bytes:20971520}") long maxSourceBytes,
+            @Value("${images.derivative.max-source-pixels:40000000}") long maxSourcePixels,
+            @Value("${images.derivative.quality:0.85}") float quality
+    ) {
+        this.storageObjects = storageObjects;
+        this.imageVariantsRepository = imageVariantsRepository;
+        this.orphanObjectsRepository = orphanObjectsRepository;
+        this.filesRepository = filesRepository;
+        this.usersRepository = usersRepository;
+        this.enabled = enabled;
+        // 썸네일 크기는 sizes에 없어도 항상 생성
+        this.sizes = Stream.concat(Arrays.stream(sizes.split(","))
+                                .map(String::trim)
+                                .filter(s -> !s.isEmpty())
+                                .map(Integer::parseInt),
+                        Stream.of(thumbnailSize))
+                .distinct()
+                .sorted()
+                .toList();
+        this.thumbnailVariant = "w" + thumbnailSize;
+        this.webpAvailable = webpEnabled && ImageIO.getImageWritersByFormatName("webp").hasNext();
+        this.maxSourceBytes = maxSourceBytes;
+        this.maxSourcePixels = maxSourcePixels;
+        this.quality = quality;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivative-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.generatedCounter = counter(meterRegistry, "generated");
+        this.skippedCounter = counter(meterRegistry, "skipped");
+        this.failedCounter = counter(meterRegistry, "failed");
+
+        log.info("[IMAGE] 변환 설정: sizes={}, webp={}", this.sizes, webpAvailable);
+    }
+
+    // 업로드 커밋 후 변환 작업 등록 (이미지가 아니면 무시)
+    public void generateAfterCommit(String sourceKey, String contentType) {
+        if (!enabled || sourceKey == null || contentType == null || !contentType.startsWith("image/")) {
+            return;
+        }
+        AfterCommit.run(() -> submit(sourceKey));
+    }
+
+    // 원본 key -> 썸네일 URL (thumbnail-size 크기의 jpeg/png 변환본, 없으면 map에 없음)
+    public Map<String, String> thumbnailUrls(Collection<String> sourceKeys) {
+        Map<String, String> urls = new HashMap<>();
+        variantUrls(sourceKeys).forEach((sourceKey, variants) -> {
+            String url = thumbnailOf(variants);
+            if (url != null) {
+                urls.put(sourceKey, url);
+            }
+        });
+        return urls;
+    }
+
+    // 원본 key -> (변환본 이름 -> URL), 이름은 w{size}, w{size}-webp (변환본이 없으면 map에 없음)
+    public Map<String, Map<String, String>> variantUrls(Collection<String> sourceKeys) {
+        List<String> keys = sourceKeys.stream().filter(key -> key != null).distinct().toList();
+        if (keys.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Map<String, String>> urls = new HashMap<>();
+        for (ImageVariants variant : imageVariantsRepository.findBySourceKeyIn(keys)) {
+            urls.computeIfAbsent(variant.getSourceKey(), key -> new TreeMap<>())
+                    .put(variant.getVariant(), variant.getFileUrl());
+        }
+        return urls;
+    }
+
+    // 변환본 중 썸네일 URL (없으면 null)
+    public String thumbnailOf(Map<String, String> variants) {
+        return variants == null ? null : variants.get(thumbnailVariant);
+    }
+
+    public String thumbnailUrl(String sourceKey) {
+        if (sourceKey == null) {
+            return null;
+        }
+        return thumbnailUrls(List.of(sourceKey)).get(sourceKey);
+    }
+
+    // 원본이 더 이상 안 쓰이면 변환본도 GC 대상으로
+    public void orphanVariants(String sourceKey) {
+        if (sourceKey == null) {
+            return;
+        }
+        List<ImageVariants> variants = imageVariantsRepository.findBySourceKey(sourceKey);
+        if (variants.isEmpty()) {
+            return;
+        }
+        orphanObjectsRepository.saveAll(variants.stream()
+                .map(variant -> OrphanObjects.of(variant.getS3Key(), "variant"))
+                .toList());
+        imageVariantsRepository.deleteAllInBatch(variants);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void submit(String sourceKey) {
+        try {
+            executor.execute(() -> generate(sourceKey));
+        } catch (RejectedExecutionException e) {
+            skippedCounter.increment();
+            log.warn("[IMAGE] 변환 대기열이 가득 차서 건너뜀: key={}", sourceKey);
+        }
+    }
+
+    void generate(String sourceKey) {
+        try {
+            BufferedImage source = read(sourceKey);
+            if (source == null) {
+                skippedCounter.increment();
+                return;
+            }
+
+            // 투명도가 있으면 png, 없으면 jpeg
+            boolean alpha = source.getColorModel().hasAlpha();
+            String format = alpha ? "png" : "jpeg";
+
+            List<ImageVariants> variants = new ArrayList<>();
+            for (int size : sizes) {
+                if (source.getWidth() <= size && source.getHeight() <= size) {
+                    continue; // 원본이 이미 작으면 만들 필요 없음
+                }
+                BufferedImage resized = ImageResizer.fitWithin(source, size);
+                variants.add(store(sourceKey, "w" + size, resized, format));
+                if (webpAvailable) {
+                    variants.add(store(sourceKey, "w" + size + "-webp", resized, "webp"));
+                }
+            }
+
+            if (!variants.isEmpty()) {
+                saveOrOrphan(sourceKey, variants);
+            }
+            generatedCounter.increment();
+            log.debug("[IMAGE] 변환 완료: key={}, variants={}", sourceKey, variants.size());
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("[IMAGE] 변환 실패: key={}", sourceKey, e);
+        }
+    }
+
+    // 원본이 아직 쓰이면 image_variants에 기록, 그 사이 삭제/교체됐으면 만든 객체는 바로 GC 대상으로
+    // (삭제 쪽 orphanVariants는 이미 저장된 행만 보니까 여기서 안 챙기면 저장소에 영원히 남음)
+    private void saveOrOrphan(String sourceKey, List<ImageVariants> variants) {
+        if (!isLive(sourceKey)) {
+            orphanObjectsRepository.saveAll(variants.stream()
+                    .map(variant -> OrphanObjects.of(variant.getS3Key(), "variant"))
+                    .toList());
+            log.info("[IMAGE] 변환 중에 원본이 삭제돼서 변환본 GC 등록: key={}", sourceKey);
+            return;
+        }
+
+        imageVariantsRepository.saveAll(variants);
+
+        // 저장하는 사이에 삭제된 경우 (삭제 쪽이 아직 행을 못 봤을 수 있음)
+        if (!isLive(sourceKey)) {
+            orphanVariants(sourceKey);
+        }
+    }
+
+    // 첨부파일(soft delete 안 된 것) 또는 현재 프로필 이미지로 쓰이는 key인지
+    private boolean isLive(String sourceKey) {
+        return filesRepository.existsByS3Key(sourceKey) || usersRepository.existsByProfileImageKey(sourceKey);
+    }
+
+    // 원본 읽기 (너무 크면 디코딩 전에 건너뜀 -> 힙 보호)
+    private BufferedImage read(String sourceKey) throws IOException {
+        try (ResponseInputStream<GetObjectResponse> in = storageObjects.open(sourceKey)) {
+            Long length = in.response().contentLength();
+            if (length != null && length > maxSourceBytes) {
+                log.info("[IMAGE] 원본이 너무 커서 건너뜀: key={}, bytes={}", sourceKey, length);
+                return null;
+            }
+
+            try (ImageInputStream iis = ImageIO.createImageInputStream(in)) {
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+                if (!readers.hasNext()) {
+                    return null; // 읽을 수 없는 포맷
+                }
+
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(iis, true, true);
+                    long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                    if (pixels > maxSourcePixels) {
+                        log.info("[IMAGE] 원본 해상도가 너무 커서 건너뜀: key={}, pixels={}", sourceKey, pixels);
+                        return null;
+                    }
+                    return reader.read(0);
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+    }
+
+    private ImageVariants store(String sourceKey, String variant, BufferedImage image, String format) throws IOException {
+        byte[] bytes = encode(image, format);
+        String extension = "jpeg".equals(format) ? "jpg" : format;
+        String contentType = "image/" + format;
+        String key = VARIANT_PREFIX + sourceKey + "/" + variant + "." + extension;
+
+        storageObjects.put(key, bytes, contentType);
+
+        return ImageVariants.builder()
+                .sourceKey(sourceKey)
+                .variant(variant)
+                .s3Key(key)
+                .fileUrl(storageObjects.objectUrl(key))
+                .contentType(contentType)
+                .width(image.getWidth())
+                .height(image.getHeight())
+                .fileSize((long) bytes.length)
+                .build();
+    }
+
+    private byte[] encode(BufferedImage image, String format) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName(format).next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                if (param.getCompressionTypes() != null && param.getCompressionTypes().length > 0) {
+                    param.setCompressionType(param.getCompressionTypes()[0]);
+                }
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("images.derivative.tasks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.community.service.storage;
+
+import com.example.community.dto.request.files.LambdaDownloadRequest;
+import com.example.community.dto.request.files.LambdaUploadRequest;
+import com.example.community.dto.response.files.LambdaDownloadResponse;
+import com.example.community.dto.response.files.LambdaUploadResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Lambda에 presigned URL 발급 요청 (기존 방식)
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.presign.mode", havingValue = "lambda", matchIfMissing = true)
+public class LambdaPresigner implements Presigner {
+
+    private final RestTemplate restTemplate;
+
+    @Value("${lambda.file.endpoint}")
+    private String lambdaEndpoint;
+
+    @Override
+    public LambdaUploadResponse presignUpload(LambdaUploadRequest request) {
+        String url = lambdaEndpoint + "/files";
+
+        // Lambda 호출 → Presigned PUT URL 받기
+        LambdaUploadResponse lambdaRes =
+                restTemplate.postForObject(url, request, LambdaUploadResponse.class);
+
+        if (lambdaRes == null || lambdaRes.getUploadUrl() == null) {
+            log.error("[FILE-UPLOAD] Lambda 응답 오류: {}", lambdaRes);
+            throw new IllegalStateException("Lambda에서 업로드 URL을 받지 못했습니다.");
+        }
+        return lambdaRes;
+    }
+
+    @Override
+    public LambdaDownloadResponse presignDownload(LambdaDownloadRequest request) {
+        String url = lambdaEndpoint + "/files/download";
+
+        LambdaDownloadResponse lambdaRes =
+                restTemplate.postForObject(url, request, LambdaDownloadResponse.class);
+
+        if (lambdaRes == null || lambdaRes.getDownloadUrl() == null) {
+            log.error("[FILE-DOWNLOAD] Lambda 응답 오류: {}", lambdaRes);
+            throw new IllegalStateException("Lambda에서 다운로드 URL을 받지 못했습니다.");
+        }
+        return lambdaRes;
+    }
+}
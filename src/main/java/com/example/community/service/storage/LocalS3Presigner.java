@@ -0,0 +1,106 @@
+package com.example.community.service.storage;
+
+import com.example.community.dto.request.files.LambdaDownloadRequest;
+import com.example.community.dto.request.files.LambdaUploadRequest;
+import com.example.community.dto.response.files.LambdaDownloadResponse;
+import com.example.community.dto.response.files.LambdaUploadResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 서버에서 바로 presigned URL 서명 (S3Config의 S3Presigner 사용)
+ * 서명은 로컬 계산이라 Lambda 왕복이 없음
+ * endpoint-override + path-style 설정하면 LocalStack/MinIO 같은 S3 호환 서버에도 그대로 사용 가능
+ */
+
+@Component
+@ConditionalOnProperty(name = "storage.presign.mode", havingValue = "local")
+public class LocalS3Presigner implements Presigner {
+
+    private final S3Presigner s3Presigner;
+    private final S3Client s3Client;
+    private final String bucket;
+    private final Duration uploadExpiration;
+    private final Duration downloadExpiration;
+
+    public LocalS3Presigner(
+            S3Presigner s3Presigner,
+            S3Client s3Client,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${storage.presign.upload-expire-seconds:600}") long uploadExpireSeconds,
+            @Value("${storage.presign.download-expire-seconds:3600}") long downloadExpireSeconds
+    ) {
+        this.s3Presigner = s3Presigner;
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.uploadExpiration = Duration.ofSeconds(uploadExpireSeconds);
+        this.downloadExpiration = Duration.ofSeconds(downloadExpireSeconds);
+    }
+
+    @Override
+    public LambdaUploadResponse presignUpload(LambdaUploadRequest request) {
+        PutObjectRequest.Builder putObject = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(request.getKey())
+                .contentType(request.getContentType());
+        if (request.getContentSize() != null) {
+            putObject.contentLength(request.getContentSize()); // 선언한 크기랑 다르면 S3가 거부
+        }
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(uploadExpiration)
+                .putObjectRequest(putObject.build())
+                .build();
+
+        String uploadUrl = s3Presigner.presignPutObject(presignRequest).url().toString();
+
+        return LambdaUploadResponse.builder()
+                .uploadUrl(uploadUrl)
+                .fileUrl(objectUrl(request.getKey()))
+                .key(request.getKey())
+                .expireSeconds(uploadExpiration.toSeconds())
+                .build();
+    }
+
+    @Override
+    public LambdaDownloadResponse presignDownload(LambdaDownloadRequest request) {
+        GetObjectRequest.Builder getObject = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(request.getKey());
+        if (request.getDownloadName() != null) {
+            // 브라우저에서 원본 파일명으로 저장되게
+            String encodedName = URLEncoder.encode(request.getDownloadName(), StandardCharsets.UTF_8).replace("+", "%20");
+            getObject.responseContentDisposition("attachment; filename*=UTF-8''" + encodedName);
+        }
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(downloadExpiration)
+                .getObjectRequest(getObject.build())
+                .build();
+
+        return LambdaDownloadResponse.builder()
+                .downloadUrl(s3Presigner.presignGetObject(presignRequest).url().toString())
+                .key(request.getKey())
+                .expireSeconds(downloadExpiration.toSeconds())
+                .build();
+    }
+
+    // 업로드 후 접근 URL (endpoint/path-style 설정을 따라감)
+    private String objectUrl(String key) {
+        return s3Client.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(bucket).key(key).build())
+                .toString();
+    }
+}
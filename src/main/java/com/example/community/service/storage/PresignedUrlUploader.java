@@ -0,0 +1,99 @@
+package com.example.community.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Presigned PUT URL로 파일을 S3에 올리는 공통 업로더
+ * - file.getBytes()로 전체를 힙에 올리지 않고 multipart 입력 스트림 -> 커넥션 출력 스트림으로 바로 복사
+ * - 크기를 알면 fixed-length, 모르면 chunked 스트리밍 (HttpURLConnection이 본문을 버퍼링하지 않게)
+ * - 복사용 버퍼는 풀에서 빌려 쓰고 반납 -> 업로드 하나당 힙 사용량은 파일 크기와 상관없이 버퍼 하나
+ */
+
+@Slf4j
+@Component
+public class PresignedUrlUploader {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final int bufferSize;
+    private final int connectTimeoutMillis;
+    private final int readTimeoutMillis;
+    private final BlockingQueue<byte[]> bufferPool;
+
+    public PresignedUrlUploader(
+            @Value("${files.upload.buffer-size:65536}") int bufferSize,
+            @Value("${files.upload.buffer-pool-size:16}") int bufferPoolSize,
+            @Value("${files.upload.connect-timeout-ms:5000}") int connectTimeoutMillis,
+            @Value("${files.upload.read-timeout-ms:60000}") int readTimeoutMillis
+    ) {
+        this.bufferSize = bufferSize;
+        this.connectTimeoutMillis = connectTimeoutMillis;
+        this.readTimeoutMillis = readTimeoutMillis;
+        this.bufferPool = new ArrayBlockingQueue<>(bufferPoolSize);
+    }
+
+    public void upload(String uploadUrl, MultipartFile file) throws IOException {
+        try (InputStream in = file.getInputStream()) {
+            upload(uploadUrl, in, file.getSize(), file.getContentType());
+        }
+    }
+
+    // size < 0 이면 크기를 모르는 것으로 보고 chunked 전송
+    public void upload(String uploadUrl, InputStream in, long size, String contentType) throws IOException {
+        HttpURLConnection conn = (HttpURLConnection) new URL(uploadUrl).openConnection();
+
+        try {
+            conn.setDoOutput(true);
+            conn.setRequestMethod("PUT");
+            conn.setConnectTimeout(connectTimeoutMillis);
+            conn.setReadTimeout(readTimeoutMillis);
+            if (contentType != null) {
+                conn.setRequestProperty("Content-Type", contentType);
+            }
+
+            if (size >= 0) {
+                conn.setFixedLengthStreamingMode(size);
+            } else {
+                conn.setChunkedStreamingMode(CHUNK_SIZE);
+            }
+
+            byte[] buffer = borrowBuffer();
+            try (OutputStream os = conn.getOutputStream()) {
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    os.write(buffer, 0, read);
+                }
+            } finally {
+                returnBuffer(buffer);
+            }
+
+            int code = conn.getResponseCode();
+            if (code < 200 || code >= 300) {
+                throw new IllegalStateException("S3 업로드 실패: HTTP " + code);
+            }
+        } finally {
+            conn.disconnect();
+        }
+    }
+
+    // 풀이 비어 있으면 새로 만들고, 반납할 때 풀이 꽉 차 있으면 버림 (GC 대상)
+    private byte[] borrowBuffer() {
+        byte[] buffer = bufferPool.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    private void returnBuffer(byte[] buffer) {
+        bufferPool.offer(buffer);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.community.service.storage;
+
+import com.example.community.dto.request.files.LambdaDownloadRequest;
+import com.example.community.dto.request.files.LambdaUploadRequest;
+import com.example.community.dto.response.files.LambdaDownloadResponse;
+import com.example.community.dto.response.files.LambdaUploadResponse;
+
+/**
+ * presigned URL 발급 방식
+ * - lambda (기본): Lambda에 요청해서 발급 -> LambdaPresigner
+ * - local: 서버에서 S3Presigner로 바로 서명 (네트워크 안 탐) -> LocalS3Presigner
+ * storage.presign.mode 로 선택, 요청/응답 모양은 기존 Lambda DTO 그대로
+ */
+public interface Presigner {
+
+    // PUT URL (+ 업로드 후 접근 URL)
+    LambdaUploadResponse presignUpload(LambdaUploadRequest request);
+
+    // GET URL
+    LambdaDownloadResponse presignDownload(LambdaDownloadRequest request);
+}
@@ -0,0 +1,168 @@
+package com.example.community.service.storage;
+
+import com.example.community.entity.OrphanObjects;
+import com.example.community.repository.FilesRepository;
+import com.example.community.repository.OrphanObjectsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 안 쓰는 S3 객체 정리 (백그라운드)
+ * - 대상: soft delete된 게시글 파일(files.deleted_at), 교체/삭제된 프로필 이미지(orphan_objects)
+ * - 유예 기간(grace-period-hours)이 지난 것만 -> 삭제 직후 되돌리거나 아직 쓰는 중인 URL 보호
+ * - batch-size개씩 DeleteObjects로 한 번에 지우고, 지워진 것만 DB 행 삭제 (실패한 건 다음에 재시도)
+ * - 한 번 돌 때 최대 max-batches-per-run번, batch 사이 pause-ms 쉬면서 -> 일반 요청이랑 경쟁 안 하게
+ * - 메트릭: storage.gc.objects (source, result), storage.gc.run
+ */
+
+@Slf4j
+@Service
+public class StorageGarbageCollector {
+
+    private static final int MAX_BATCH_SIZE = 1000; // DeleteObjects 한 번에 최대 1000개
+
+    private final FilesRepository filesRepository;
+    private final OrphanObjectsRepository orphanObjectsRepository;
+    private final StorageObjects storageObjects;
+    private final MeterRegistry meterRegistry;
+    private final Timer runTimer;
+
+    private final boolean enabled;
+    private final long gracePeriodHours;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final long pauseMillis;
+
+    public StorageGarbageCollector(
+            FilesRepository filesRepository,
+            OrphanObjectsRepository orphanObjectsRepository,
+            StorageObjects storageObjects,
+            MeterRegistry meterRegistry,
+            @Value("${storage.gc.enabled:true}") boolean enabled,
+            @Value("${storage.gc.grace-period-hours:24}") long gracePeriodHours,
+            @Value("${storage.gc.batch-size:100}") int batchSize,
+            @Value("${storage.gc.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${storage.gc.pause-ms:500}") long pauseMillis
+    ) {
+        this.filesRepository = filesRepository;
+        this.orphanObjectsRepository = orphanObjectsRepository;
+        this.storageObjects = storageObjects;
+        this.meterRegistry = meterRegistry;
+        this.runTimer = Timer.builder("storage.gc.run").register(meterRegistry);
+        this.enabled = enabled;
+        this.gracePeriodHours = gracePeriodHours;
+        this.batchSize = Math.min(Math.max(1, batchSize), MAX_BATCH_SIZE);
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(
+            initialDelayString = "${storage.gc.initial-delay-ms:120000}",
+            fixedDelayString = "${storage.gc.interval-ms:300000}")
+    public void collect() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(gracePeriodHours);
+        runTimer.record(() -> {
+            collectDeletedFiles(cutoff);
+            collectOrphanObjects(cutoff);
+        });
+    }
+
+    // soft delete된 게시글 파일
+    void collectDeletedFiles(LocalDateTime cutoff) {
+        collect("files",
+                () -> filesRepository.findDeletedBefore(cutoff, batchSize),
+                FilesRepository.DeletedFileRow::getS3Key,
+                FilesRepository.DeletedFileRow::getId,
+                filesRepository::hardDeleteByIdIn);
+    }
+
+    // 교체/삭제된 프로필 이미지 등
+    void collectOrphanObjects(LocalDateTime cutoff) {
+        collect("orphans",
+                () -> orphanObjectsRepository.findByCreatedAtBeforeOrderByIdAsc(cutoff, PageRequest.of(0, batchSize)),
+                OrphanObjects::getS3Key,
+                OrphanObjects::getId,
+                orphanObjectsRepository::deleteAllByIdInBatch);
+    }
+
+    private <T> void collect(String source,
+                             Supplier<List<T>> fetch,
+                             Function<T, String> keyOf,
+                             Function<T, Long> idOf,
+                             Consumer<List<Long>> hardDelete) {
+        Counter deletedCounter = counter(source, "deleted");
+        Counter failedCounter = counter(source, "failed");
+
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            List<T> rows = fetch.get();
+            if (rows.isEmpty()) {
+                return;
+            }
+
+            Set<String> deletedKeys;
+            try {
+                deletedKeys = storageObjects.deleteAll(rows.stream().map(keyOf).distinct().toList());
+            } catch (RuntimeException e) {
+                failedCounter.increment(rows.size());
+                log.warn("[STORAGE-GC] S3 삭제 요청 실패, 다음 주기에 재시도: source={}, rows={}", source, rows.size(), e);
+                return;
+            }
+
+            List<Long> ids = rows.stream()
+                    .filter(row -> deletedKeys.contains(keyOf.apply(row)))
+                    .map(idOf)
+                    .toList();
+            if (!ids.isEmpty()) {
+                hardDelete.accept(ids);
+            }
+
+            deletedCounter.increment(ids.size());
+            failedCounter.increment(rows.size() - ids.size());
+            log.info("[STORAGE-GC] source={}, deleted={}, failed={}", source, ids.size(), rows.size() - ids.size());
+
+            // 전부 실패했으면 같은 행만 계속 다시 읽게 되니까 이번 주기는 종료
+            if (ids.isEmpty() || rows.size() < batchSize) {
+                return;
+            }
+
+            if (!pause()) {
+                return;
+            }
+        }
+    }
+
+    private Counter counter(String source, String result) {
+        return Counter.builder("storage.gc.objects")
+                .tag("source", source)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // batch 사이 쉬기 (중단되면 false)
+    private boolean pause() {
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
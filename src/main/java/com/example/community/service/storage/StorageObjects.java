@@ -0,0 +1,125 @@
+package com.example.community.service.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
+import software.amazon.awssdk.services.s3.model.DeletedObject;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.GetUrlRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 버킷에 있는 객체 확인 / 접근 URL / 읽기 / 쓰기 / 삭제
+ * (직접 업로드 confirm 시 실제로 올라왔는지, 크기가 맞는지 확인용)
+ * (ImageDerivativeService에서 원본 읽고 썸네일 저장용)
+ * (StorageGarbageCollector에서 안 쓰는 객체 일괄 삭제용)
+ */
+
+@Slf4j
+@Component
+public class StorageObjects {
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String publicBaseUrl;
+
+    public StorageObjects(
+            S3Client s3Client,
+            @Value("${cloud.aws.s3.bucket}") String bucket,
+            @Value("${storage.public-base-url:}") String publicBaseUrl
+    ) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.publicBaseUrl = publicBaseUrl;
+    }
+
+    // 객체 메타데이터 (없으면 empty)
+    public Optional<HeadObjectResponse> head(String key) {
+        try {
+            return Optional.of(s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build()));
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    // 객체 읽기 (스트림은 호출하는 쪽에서 닫기)
+    public ResponseInputStream<GetObjectResponse> open(String key) {
+        return s3Client.getObject(GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build());
+    }
+
+    // 작은 객체 저장 (썸네일 등)
+    public void put(String key, byte[] bytes, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .contentType(contentType)
+                        .build(),
+                RequestBody.fromBytes(bytes));
+    }
+
+    // 여러 객체 한 번에 삭제 (DeleteObjects, 최대 1000개) -> 삭제된 key 반환
+    // 이미 없는 key도 S3는 삭제 성공으로 응답함
+    public Set<String> deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        if (keys.size() > 1000) {
+            throw new IllegalArgumentException("한 번에 최대 1000개까지 삭제할 수 있습니다.");
+        }
+
+        DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                        .objects(keys.stream()
+                                .map(key -> ObjectIdentifier.builder().key(key).build())
+                                .toList())
+                        .build())
+                .build());
+
+        response.errors().forEach(error ->
+                log.warn("[STORAGE] 객체 삭제 실패: key={}, code={}, message={}",
+                        error.key(), error.code(), error.message()));
+
+        return response.deleted().stream()
+                .map(DeletedObject::key)
+                .collect(Collectors.toSet());
+    }
+
+    // 접근 URL (CloudFront 같은 public-base-url 설정이 있으면 그걸로, 없으면 S3 URL)
+    public String objectUrl(String key) {
+        if (!publicBaseUrl.isBlank()) {
+            return publicBaseUrl.replaceAll("/+$", "") + "/" + key;
+        }
+        return s3Client.utilities()
+                .getUrl(GetUrlRequest.builder().bucket(bucket).key(key).build())
+                .toString();
+    }
+}
@@ -0,0 +1,56 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 좋아요 중복 방지 unique 키 (같은 사용자가 같은 게시글/댓글에 한 번만)
+ * - 기본 스키마(V1)에는 없던 제약조건이라 baseline 잡힌 DB에도 추가돼야 함
+ * - ddl-auto가 이미 같은 컬럼으로 unique 키를 만들어 둔 DB도 있어서, 있으면 건너뜀
+ *   (MySQL은 ADD CONSTRAINT IF NOT EXISTS가 없어서 SQL 대신 메타데이터로 확인)
+ */
+public class V1_2__Likes_unique_keys extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        addUniqueKey(connection, "post_likes", "uk_post_likes_user_post", "user_id", "post_id");
+        addUniqueKey(connection, "comment_likes", "uk_comment_likes_user_comment", "user_id", "comment_id");
+    }
+
+    private void addUniqueKey(Connection connection, String table, String name, String... columns) throws SQLException {
+        if (hasUniqueKey(connection, table, Set.of(columns))) {
+            return;
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ADD CONSTRAINT " + name
+                    + " UNIQUE (" + String.join(", ", columns) + ")");
+        }
+    }
+
+    // 컬럼 구성이 같은 unique 인덱스가 이미 있는지 (이름은 ddl-auto가 만든 것과 다를 수 있음)
+    private boolean hasUniqueKey(Connection connection, String table, Set<String> columns) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, Set<String>> uniqueKeys = new HashMap<>();
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+            while (rs.next()) {
+                String column = rs.getString("COLUMN_NAME");
+                if (column != null) {
+                    uniqueKeys.computeIfAbsent(rs.getString("INDEX_NAME"), key -> new HashSet<>())
+                            .add(column.toLowerCase());
+                }
+            }
+        }
+        return uniqueKeys.containsValue(columns);
+    }
+}
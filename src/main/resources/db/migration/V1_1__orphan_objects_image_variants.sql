@@ -0,0 +1,28 @@
+-- 기본 스키마(V1) 이후 추가된 테이블
+-- baseline 잡힌 DB에는 V1이 안 돌기 때문에 따로 만듦 (V2 인덱스, V3 id 채번이 이 테이블들을 씀)
+-- ddl-auto가 이미 만들어 둔 DB도 있을 수 있어서 IF NOT EXISTS
+
+CREATE TABLE IF NOT EXISTS orphan_objects (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    s3_key     VARCHAR(512) NOT NULL,
+    source     VARCHAR(30)  NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS image_variants (
+    id           BIGINT        NOT NULL AUTO_INCREMENT,
+    source_key   VARCHAR(512)  NOT NULL,
+    variant      VARCHAR(30)   NOT NULL,
+    s3_key       VARCHAR(512)  NOT NULL,
+    file_url     VARCHAR(1024) NOT NULL,
+    content_type VARCHAR(50)   NOT NULL,
+    width        INT           NOT NULL,
+    height       INT           NOT NULL,
+    file_size    BIGINT        NOT NULL,
+    created_at   DATETIME(6)   NOT NULL,
+    updated_at   DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_image_variants_source_variant UNIQUE (source_key, variant)
+);
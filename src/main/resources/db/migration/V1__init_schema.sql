@@ -0,0 +1,103 @@
+-- 기본 스키마 (Flyway 도입 전 JPA ddl-auto로 만들어지던 것과 같은 구조)
+-- 이미 테이블이 있는 DB는 baseline(V1)으로 잡히고 이 파일은 건너뜀 -> FlywayConfig 참고
+-- 그래서 여기는 고치지 말고, 새 테이블/제약조건은 V1.1 이후 마이그레이션에 추가
+
+CREATE TABLE users (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    email             VARCHAR(255) NOT NULL,
+    password          VARCHAR(255) NOT NULL,
+    nickname          VARCHAR(10)  NOT NULL,
+    profile_image_key VARCHAR(255),
+    profile_image_url VARCHAR(255),
+    last_login_at     DATETIME(6),
+    deleted_at        DATETIME(6),
+    role              ENUM('ADMIN', 'USER') NOT NULL,
+    created_at        DATETIME(6)  NOT NULL,
+    updated_at        DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email),
+    CONSTRAINT uk_users_nickname UNIQUE (nickname)
+);
+
+CREATE TABLE posts (
+    id            BIGINT      NOT NULL AUTO_INCREMENT,
+    title         VARCHAR(26) NOT NULL,
+    content       LONGTEXT,
+    like_count    BIGINT      NOT NULL,
+    comment_count BIGINT      NOT NULL,
+    view_count    BIGINT      NOT NULL,
+    deleted_at    DATETIME(6),
+    user_id       BIGINT      NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE comments (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    content    VARCHAR(255) NOT NULL,
+    like_count BIGINT       NOT NULL,
+    deleted_at DATETIME(6),
+    user_id    BIGINT,
+    post_id    BIGINT,
+    created_at DATETIME(6)  NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id)
+);
+
+CREATE TABLE post_likes (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT,
+    post_id    BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_likes_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_post_likes_post FOREIGN KEY (post_id) REFERENCES posts (id)
+);
+
+CREATE TABLE comment_likes (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT,
+    comment_id BIGINT,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comment_likes_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comment_likes_comment FOREIGN KEY (comment_id) REFERENCES comments (id)
+);
+
+CREATE TABLE files (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    origin_name VARCHAR(255) NOT NULL,
+    file_type   VARCHAR(255) NOT NULL,
+    file_size   BIGINT       NOT NULL,
+    s3_key      VARCHAR(255) NOT NULL,
+    file_url    VARCHAR(255) NOT NULL,
+    deleted_at  DATETIME(6),
+    post_id     BIGINT       NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_files_post FOREIGN KEY (post_id) REFERENCES posts (id)
+);
+
+CREATE TABLE profile_images (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    original_name VARCHAR(255) NOT NULL,
+    image_type    VARCHAR(100) NOT NULL,
+    file_size     BIGINT       NOT NULL,
+    storage_key   VARCHAR(255) NOT NULL,
+    storage_type  VARCHAR(255) NOT NULL,
+    deleted_at    DATETIME(6),
+    user_id       BIGINT       NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_profile_images_storage_key UNIQUE (storage_key),
+    CONSTRAINT uk_profile_images_user UNIQUE (user_id),
+    CONSTRAINT fk_profile_images_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
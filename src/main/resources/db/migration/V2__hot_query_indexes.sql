@@ -0,0 +1,32 @@
+-- 자주 쓰는 조회에 맞춘 보조 인덱스
+-- soft delete 엔티티는 @Where(deleted_at IS NULL)가 항상 붙어서 deleted_at을 인덱스에 같이 넣음
+-- (조건 컬럼 = 값 -> deleted_at IS NULL -> id 정렬 순서라 정렬 없이 LIMIT만큼만 읽음)
+-- 쿼리 플랜은 QueryPlanTest에서 확인
+
+-- 게시글 목록 (전체/Slice/커서): WHERE deleted_at IS NULL [AND id < ?] ORDER BY id DESC
+CREATE INDEX idx_posts_deleted_id ON posts (deleted_at, id);
+
+-- 마이페이지 게시글: WHERE user_id = ? AND deleted_at IS NULL ORDER BY id DESC
+CREATE INDEX idx_posts_user_deleted_id ON posts (user_id, deleted_at, id);
+
+-- 게시글 댓글 (findAllByPostIdWithUsers, findSliceByPostIdWithUsers), 댓글 수 보정 JOIN
+CREATE INDEX idx_comments_post_deleted_id ON comments (post_id, deleted_at, id);
+
+-- 마이페이지 댓글: WHERE user_id = ? AND deleted_at IS NULL ORDER BY id DESC
+CREATE INDEX idx_comments_user_deleted_id ON comments (user_id, deleted_at, id);
+
+-- 게시글/댓글 삭제 시 좋아요 정리, 개수 (user 기준은 unique 키가 처리)
+CREATE INDEX idx_post_likes_post ON post_likes (post_id);
+CREATE INDEX idx_comment_likes_comment ON comment_likes (comment_id);
+
+-- 게시글 첨부파일 (findByPostsId, findByPostsIdIn... include=files)
+CREATE INDEX idx_files_post_deleted_id ON files (post_id, deleted_at, id);
+
+-- 직접 업로드 confirm 중복 확인 (existsByS3Key)
+CREATE INDEX idx_files_s3_key ON files (s3_key);
+
+-- GC: soft delete 된 지 오래된 파일 (findDeletedBefore)
+CREATE INDEX idx_files_deleted_at ON files (deleted_at);
+
+-- GC: 유예 기간 지난 고아 객체 (findByCreatedAtBefore...)
+CREATE INDEX idx_orphan_objects_created_at ON orphan_objects (created_at);
@@ -0,0 +1,12 @@
+-- 배치 INSERT용 id 채번 테이블 (entity/IdSequences)
+-- Hibernate pooled 방식: next_val이 받아갈 구간의 끝 -> 처음엔 (현재 최대 id + 50)으로 두면 새 id는 기존 최대 id 다음부터
+-- 기존 AUTO_INCREMENT는 그대로 둠 (id를 직접 넣으면 그 값 사용)
+CREATE TABLE id_sequences (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT,
+    PRIMARY KEY (sequence_name)
+);
+
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'files', COALESCE(MAX(id), 0) + 50 FROM files;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'orphan_objects', COALESCE(MAX(id), 0) + 50 FROM orphan_objects;
+INSERT INTO id_sequences (sequence_name, next_val) SELECT 'image_variants', COALESCE(MAX(id), 0) + 50 FROM image_variants;
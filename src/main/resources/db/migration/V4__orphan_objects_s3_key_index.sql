@@ -0,0 +1,2 @@
+-- 직접 업로드 확인: presign 때 남긴 pending-upload 기록을 key로 찾아서 지움
+CREATE INDEX idx_orphan_objects_s3_key ON orphan_objects (s3_key);
@@ -0,0 +1,161 @@
+package com.example.community.common.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CounterBufferTest {
+
+    @Test
+    @DisplayName("델타 누적 - pending에 반영")
+    void add_accumulates() {
+        // given
+        CounterBuffer buffer = new CounterBuffer();
+
+        // when
+        buffer.add(1L, 1L);
+        buffer.add(1L, 2L);
+        buffer.add(2L, 5L);
+
+        // then
+        assertThat(buffer.pending(1L)).isEqualTo(3L);
+        assertThat(buffer.pending(2L)).isEqualTo(5L);
+        assertThat(buffer.pending(3L)).isZero();
+    }
+
+    @Test
+    @DisplayName("drain - 쌓인 델타를 꺼내고 초기화")
+    void drain_resets() {
+        // given
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(1L, 3L);
+
+        // when
+        Map<Long, Long> drained = buffer.drain();
+
+        // then
+        assertThat(drained).containsEntry(1L, 3L);
+        assertThat(buffer.pending(1L)).isEqualTo(3L); // DB 반영 전이라 아직 보임
+        assertThat(buffer.drain()).isEmpty();
+
+        buffer.complete(drained);
+        assertThat(buffer.pending(1L)).isZero();
+        assertThat(buffer.isEmpty()).isTrue(); // 변화 없던 id는 정리됨
+    }
+
+    @Test
+    @DisplayName("restore - 반영 실패한 델타 되돌리기")
+    void restore_addsBack() {
+        // given
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(1L, 3L);
+        Map<Long, Long> drained = buffer.drain();
+        buffer.add(1L, 1L);
+
+        // when
+        buffer.restore(drained);
+
+        // then
+        assertThat(buffer.pending(1L)).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("동시에 증가 + drain 해도 합계 유지")
+    void concurrentAddAndDrain() throws Exception {
+        // given
+        CounterBuffer buffer = new CounterBuffer();
+        int threads = 8;
+        int perThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong flushed = new AtomicLong();
+
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            tasks.add(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    buffer.add((long) (j % 4), 1L);
+                }
+            });
+        }
+
+        // when
+        tasks.forEach(task -> executor.submit(() -> {
+            start.await();
+            task.run();
+            return null;
+        }));
+        start.countDown();
+        while (!executor.isTerminated()) {
+            drainInto(buffer, flushed);
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.MILLISECONDS);
+        }
+        drainInto(buffer, flushed);
+
+        // then
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    @DisplayName("빈 카운터 정리와 증가가 겹쳐도 유실 없음")
+    void concurrentAddAndPrune() throws Exception {
+        // given - 증가가 드문드문 들어와서 drain이 계속 빈 카운터를 정리하는 상황
+        CounterBuffer buffer = new CounterBuffer();
+        int threads = 4;
+        int perThread = 20_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicLong flushed = new AtomicLong();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    buffer.add(1L, 1L);
+                    Thread.onSpinWait();
+                }
+            });
+        }
+        executor.shutdown();
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            drainInto(buffer, flushed);
+        }
+        drainInto(buffer, flushed);
+
+        // then
+        assertThat(flushed.get()).isEqualTo((long) threads * perThread);
+    }
+
+    @Test
+    @DisplayName("restore - in-flight에서 빠지고 버퍼로 돌아감")
+    void restore_clearsInFlight() {
+        // given
+        CounterBuffer buffer = new CounterBuffer();
+        buffer.add(1L, 3L);
+        Map<Long, Long> drained = buffer.drain();
+
+        // when
+        buffer.restore(drained);
+
+        // then
+        assertThat(buffer.pending(1L)).isEqualTo(3L);
+        assertThat(buffer.drain()).containsEntry(1L, 3L);
+    }
+
+    // drain -> 바로 반영 완료 처리 (flush 흉내)
+    private static void drainInto(CounterBuffer buffer, AtomicLong flushed) {
+        Map<Long, Long> drained = buffer.drain();
+        drained.values().forEach(flushed::addAndGet);
+        buffer.complete(drained);
+    }
+}
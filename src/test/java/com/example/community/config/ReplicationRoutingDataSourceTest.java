@@ -0,0 +1,75 @@
+package com.example.community.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * readOnly 트랜잭션이 replica, 쓰기 트랜잭션이 primary 로 가는지 확인
+ * DB 두 개에 서로 다른 표식을 넣어두고 어느 쪽에서 읽혔는지 비교
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = marked("routing-primary", ReplicationRoutingDataSource.PRIMARY);
+        DataSource replica = marked("routing-replica", ReplicationRoutingDataSource.REPLICA);
+
+        ReplicationRoutingDataSource routing = new ReplicationRoutingDataSource();
+        routing.setTargetDataSources(Map.of(
+                ReplicationRoutingDataSource.PRIMARY, primary,
+                ReplicationRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    void readOnlyTransaction_routesToReplica() {
+        assertThat(readOnly.execute(status -> marker())).isEqualTo(ReplicationRoutingDataSource.REPLICA);
+    }
+
+    @Test
+    void readWriteTransaction_routesToPrimary() {
+        assertThat(readWrite.execute(status -> marker())).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void noTransaction_routesToPrimary() {
+        assertThat(marker()).isEqualTo(ReplicationRoutingDataSource.PRIMARY);
+    }
+
+    private String marker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource marked(String db, String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("DROP TABLE IF EXISTS marker");
+        template.execute("CREATE TABLE marker (name VARCHAR(20))");
+        template.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+}
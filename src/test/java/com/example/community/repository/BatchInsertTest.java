@@ -0,0 +1,90 @@
+package com.example.community.repository;
+
+import com.example.community.config.JdbcBatchConfig;
+import com.example.community.config.JpaConfig;
+import com.example.community.entity.Files;
+import com.example.community.entity.Posts;
+import com.example.community.entity.Role;
+import com.example.community.entity.Users;
+import com.example.community.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 행 저장 시 JDBC 왕복 횟수 확인 (Hibernate 통계의 prepared statement 수)
+ * IDENTITY였을 때는 행마다 INSERT 1번 -> 200행이면 200번
+ * 테이블 채번(IdSequences) + batch_size 50 이면 INSERT 배치 4번 + 채번 몇 번 -> 20번(행 수의 1/10) 이하
+ */
+@DataJpaTest
+@Import({JpaConfig.class, JdbcBatchConfig.class})
+class BatchInsertTest {
+
+    private static final int ROWS = 200;
+
+    @Autowired
+    private FilesRepository filesRepository;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @DisplayName("파일 메타데이터 여러 건 저장 - 배치로 묶여서 왕복 횟수가 행 수보다 훨씬 적음")
+    void saveAll_files_batched() {
+
+        //given
+        Users user = usersRepository.save(Users.builder()
+                .email("batch@test.com")
+                .password("1234")
+                .nickname("batch")
+                .role(Role.USER)
+                .build());
+        Posts post = postsRepository.save(Posts.builder()
+                .title("title")
+                .content("content")
+                .users(user)
+                .build());
+        entityManager.flush();
+
+        List<Files> files = IntStream.range(0, ROWS)
+                .mapToObj(i -> Files.builder()
+                        .originName("file" + i + ".png")
+                        .fileType("image/png")
+                        .fileSize(1024L)
+                        .s3Key("posts/" + i + ".png")
+                        .fileUrl("https://bucket/posts/" + i + ".png")
+                        .posts(post)
+                        .build())
+                .toList();
+
+        StatementCounter statements = new StatementCounter(entityManagerFactory);
+        statements.reset();
+
+        //when
+        filesRepository.saveAll(files);
+        entityManager.flush();
+
+        //then
+        assertThat(statements.entityInserts()).isEqualTo(ROWS);
+        assertThat(statements.count()).isLessThanOrEqualTo(ROWS / 10);
+        assertThat(files).allSatisfy(f -> assertThat(f.getId()).isNotNull());
+    }
+}
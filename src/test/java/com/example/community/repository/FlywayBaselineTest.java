@@ -0,0 +1,65 @@
+package com.example.community.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Flyway 도입 전 ddl-auto로 만들어진 DB에 처음 마이그레이션 돌리는 경우
+ * - flyway 이력 테이블 없이 기본 스키마(V1과 같은 구조)만 있는 DB -> V1으로 baseline 잡고 나머지 실행
+ * - V1 이후 추가된 테이블/제약조건이 다 만들어지는지 확인 (빈 DB 경로는 QueryPlanTest)
+ */
+class FlywayBaselineTest {
+
+    private static final String URL = "jdbc:h2:mem:flyway-baseline;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Test
+    @DisplayName("기본 스키마만 있는 기존 DB - V1은 건너뛰고 나머지 마이그레이션 전부 성공")
+    void migrate_fromBaselineSchema() {
+        //given - ddl-auto로 만들어진 기본 스키마 + 데이터 (이력 테이블 없음)
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__init_schema.sql")).execute(dataSource);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (email, password, nickname, role, created_at, updated_at) "
+                + "VALUES ('u1@test.com', 'pw', 'n1', 'USER', NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO posts (title, content, like_count, comment_count, view_count, user_id, created_at, updated_at) "
+                + "VALUES ('title', 'content', 1, 0, 0, 1, NOW(), NOW())");
+        jdbcTemplate.update("INSERT INTO post_likes (user_id, post_id, created_at, updated_at) VALUES (1, 1, NOW(), NOW())");
+
+        //when - 운영 설정(FlywayConfig)과 같은 baseline
+        MigrateResult result = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        //then
+        assertThat(result.success).isTrue();
+        assertThat(result.migrations).extracting(migration -> migration.version)
+                .doesNotContain("1")
+                .contains("1.1", "1.2", "2", "3", "4");
+
+        // V1 이후 추가된 테이블 (V2 인덱스, V3 id 채번까지 적용)
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orphan_objects", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM image_variants", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT next_val FROM id_sequences WHERE sequence_name = 'orphan_objects'", Long.class)).isEqualTo(50L);
+
+        // 기존 데이터는 그대로, 좋아요 unique 키는 추가됨
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post_likes", Long.class)).isEqualTo(1L);
+        assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO post_likes (user_id, post_id, created_at, updated_at) VALUES (1, 1, NOW(), NOW())"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.community.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 마이그레이션 스키마 기준 쿼리 플랜 회귀 테스트
+ * - MySQL 호환 모드 H2에 Flyway 마이그레이션 실행 + 데이터 조금 넣고 ANALYZE
+ * - 리포지토리의 자주 쓰는 쿼리(soft delete 조건 포함)를 EXPLAIN 해서 전체 스캔이 아니고 기대한 인덱스를 타는지 확인
+ * 인덱스를 지우거나 쿼리 조건을 바꿔서 전체 스캔으로 떨어지면 여기서 깨짐
+ */
+class QueryPlanTest {
+
+    private static final String URL = "jdbc:h2:mem:query-plan;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(URL, "sa", "");
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .load()
+                .migrate();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        seed();
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    // 인덱스 선택이 의미 있게 나오도록 테이블마다 적당히 (일부는 soft delete)
+    private static void seed() {
+        jdbcTemplate.execute("INSERT INTO users (email, password, nickname, role, created_at, updated_at) "
+                + "SELECT CONCAT('u', x, '@test.com'), 'pw', CONCAT('n', x), 'USER', NOW(), NOW() "
+                + "FROM SYSTEM_RANGE(1, 100)");
+        jdbcTemplate.execute("INSERT INTO posts (title, content, like_count, comment_count, view_count, deleted_at, user_id, created_at, updated_at) "
+                + "SELECT CONCAT('title', x), 'content', 0, 0, 0, CASE WHEN MOD(x, 10) = 0 THEN DATEADD('SECOND', x, TIMESTAMP '2024-01-01 00:00:00') END, "
+                + "MOD(x, 100) + 1, NOW(), NOW() "
+                + "FROM SYSTEM_RANGE(1, 3000)");
+        jdbcTemplate.execute("INSERT INTO comments (content, like_count, deleted_at, user_id, post_id, created_at, updated_at) "
+                + "SELECT 'comment', 0, CASE WHEN MOD(x, 10) = 0 THEN DATEADD('SECOND', x, TIMESTAMP '2024-01-01 00:00:00') END, "
+                + "MOD(x, 100) + 1, MOD(x, 3000) + 1, NOW(), NOW() "
+                + "FROM SYSTEM_RANGE(1, 10000)");
+        jdbcTemplate.execute("INSERT INTO post_likes (user_id, post_id, created_at, updated_at) "
+                + "SELECT MOD(x, 100) + 1, x, NOW(), NOW() FROM SYSTEM_RANGE(1, 3000)");
+        jdbcTemplate.execute("INSERT INTO comment_likes (user_id, comment_id, created_at, updated_at) "
+                + "SELECT MOD(x, 100) + 1, x, NOW(), NOW() FROM SYSTEM_RANGE(1, 5000)");
+        jdbcTemplate.execute("INSERT INTO files (origin_name, file_type, file_size, s3_key, file_url, deleted_at, post_id, created_at, updated_at) "
+                + "SELECT 'a.png', 'image/png', 100, CONCAT('posts/', x, '.png'), 'url', "
+                + "CASE WHEN MOD(x, 20) = 0 THEN DATEADD('SECOND', x, TIMESTAMP '2024-01-01 00:00:00') END, MOD(x, 3000) + 1, NOW(), NOW() "
+                + "FROM SYSTEM_RANGE(1, 3000)");
+        jdbcTemplate.execute("INSERT INTO orphan_objects (s3_key, source, created_at, updated_at) "
+                + "SELECT CONCAT('profiles/', x, '.png'), 'profile', DATEADD('DAY', -MOD(x, 30), NOW()), NOW() "
+                + "FROM SYSTEM_RANGE(1, 3000)");
+        jdbcTemplate.execute("INSERT INTO image_variants (source_key, variant, s3_key, file_url, content_type, width, height, file_size, created_at, updated_at) "
+                + "SELECT CONCAT('posts/', x, '.png'), 'w128', CONCAT('variants/posts/', x, '.png/w128.png'), 'url', 'image/png', 128, 128, 10, NOW(), NOW() "
+                + "FROM SYSTEM_RANGE(1, 3000)");
+    }
+
+    // (이름, 쿼리, 타야 하는 인덱스 - null이면 전체 스캔만 아니면 됨)
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                Arguments.of("게시글 목록", "SELECT p.id FROM posts p WHERE p.deleted_at IS NULL ORDER BY p.id DESC LIMIT 10",
+                        "idx_posts_deleted_id"),
+                Arguments.of("게시글 목록 (커서)", "SELECT p.id FROM posts p WHERE p.id < 1500 AND p.deleted_at IS NULL ORDER BY p.id DESC LIMIT 10",
+                        null), // PK 범위 또는 idx_posts_deleted_id
+                Arguments.of("마이페이지 게시글", "SELECT p.id FROM posts p WHERE p.user_id = 7 AND p.deleted_at IS NULL ORDER BY p.id DESC LIMIT 10",
+                        "idx_posts_user_deleted_id"),
+                Arguments.of("게시글 댓글", "SELECT c.id FROM comments c WHERE c.post_id = 42 AND c.deleted_at IS NULL ORDER BY c.id LIMIT 20",
+                        "idx_comments_post_deleted_id"),
+                Arguments.of("마이페이지 댓글", "SELECT c.id FROM comments c WHERE c.user_id = 7 AND c.deleted_at IS NULL ORDER BY c.id DESC LIMIT 10",
+                        "idx_comments_user_deleted_id"),
+                Arguments.of("게시글 좋아요 여부", "SELECT pl.id FROM post_likes pl WHERE pl.user_id = 7 AND pl.post_id = 42",
+                        "uk_post_likes_user_post"),
+                Arguments.of("댓글 좋아요 여부 (한 페이지)", "SELECT cl.comment_id FROM comment_likes cl WHERE cl.user_id = 7 AND cl.comment_id IN (1, 2, 3, 4, 5)",
+                        "uk_comment_likes_user_comment"),
+                Arguments.of("게시글 첨부파일 (include=files)", "SELECT f.id FROM files f WHERE f.post_id IN (1, 2, 3) AND f.deleted_at IS NULL ORDER BY f.id",
+                        "idx_files_post_deleted_id"),
+                Arguments.of("첨부파일 key 중복 확인", "SELECT f.id FROM files f WHERE f.s3_key = 'posts/42.png' AND f.deleted_at IS NULL LIMIT 1",
+                        "idx_files_s3_key"),
+                Arguments.of("GC 삭제된 파일", "SELECT f.id, f.s3_key FROM files f WHERE f.deleted_at IS NOT NULL AND f.deleted_at < TIMESTAMP '2024-06-01 00:00:00' ORDER BY f.id LIMIT 100",
+                        "idx_files_deleted_at"),
+                Arguments.of("GC 고아 객체", "SELECT o.id FROM orphan_objects o WHERE o.created_at < DATEADD('DAY', -25, NOW()) ORDER BY o.id LIMIT 100",
+                        "idx_orphan_objects_created_at"),
+                Arguments.of("썸네일 조회", "SELECT v.id FROM image_variants v WHERE v.source_key IN ('posts/1.png', 'posts/2.png')",
+                        "uk_image_variants_source_variant"),
+                Arguments.of("이메일로 사용자 조회", "SELECT u.id FROM users u WHERE u.email = 'u7@test.com' AND u.deleted_at IS NULL",
+                        "uk_users_email")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String name, String sql, String expectedIndex) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+
+        assertThat(plan)
+                .as("%s\n%s", name, plan)
+                .doesNotContainIgnoringCase("tableScan");
+        if (expectedIndex != null) {
+            assertThat(plan)
+                    .as("%s\n%s", name, plan)
+                    .containsIgnoringCase(expectedIndex);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.community.service;
+
+import com.example.community.config.JpaConfig;
+import com.example.community.dto.request.posts.PostInclude;
+import com.example.community.dto.response.comments.CommentResponse;
+import com.example.community.dto.response.posts.PostDetailsResponse;
+import com.example.community.entity.CommentLikes;
+import com.example.community.entity.Comments;
+import com.example.community.entity.Posts;
+import com.example.community.entity.Role;
+import com.example.community.entity.Users;
+import com.example.community.repository.CommentLikesRepository;
+import com.example.community.repository.CommentsRepository;
+import com.example.community.repository.PostsRepository;
+import com.example.community.repository.UsersRepository;
+import com.example.community.service.cache.PostDetailsCache;
+import com.example.community.support.StatementCounter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 게시글 상세 + 댓글 첫 페이지 (include=comments)
+ * 댓글 수/작성자 수와 상관없이 쿼리 수 고정인지 확인
+ * - 게시글 + 작성자 1번, 댓글 + 작성자(JOIN FETCH) 1번, 로그인 시 좋아요 여부 1번
+ */
+@DataJpaTest
+@Import(JpaConfig.class)
+class PostsServiceDetailTest {
+
+    private static final int COMMENTS = 15;
+    private static final int COMMENT_SIZE = 10;
+
+    @Autowired
+    private UsersRepository usersRepository;
+
+    @Autowired
+    private PostsRepository postsRepository;
+
+    @Autowired
+    private CommentsRepository commentsRepository;
+
+    @Autowired
+    private CommentLikesRepository commentLikesRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private PostsService postsService;
+    private StatementCounter statements;
+
+    private Users reader;
+    private Posts post;
+    private List<Comments> comments;
+
+    @BeforeEach
+    void setUp() {
+        // 카운터/검색/파일은 이 경로에서 DB를 안 쓰니 mock
+        CounterBufferService counterBufferService = mock(CounterBufferService.class);
+        CommentLikesService commentLikesService =
+                new CommentLikesService(commentLikesRepository, commentsRepository, counterBufferService);
+        CommentsService commentsService = new CommentsService(
+                usersRepository, postsRepository, commentsRepository, commentLikesService, counterBufferService);
+        postsService = new PostsService(usersRepository, postsRepository, counterBufferService,
+                mock(PostSearchService.class), new PostDetailsCache(100, 60, new SimpleMeterRegistry()),
+                mock(FilesService.class), commentsService);
+        statements = new StatementCounter(entityManagerFactory);
+
+        // 게시글 1개 + 서로 다른 작성자의 댓글 15개, reader는 첫 댓글에 좋아요
+        Users writer = usersRepository.save(user(0));
+        reader = usersRepository.save(user(100));
+        post = postsRepository.save(Posts.builder()
+                .title("title")
+                .content("content")
+                .users(writer)
+                .build());
+        comments = IntStream.range(0, COMMENTS)
+                .mapToObj(i -> commentsRepository.save(Comments.builder()
+                        .content("comment" + i)
+                        .users(usersRepository.save(user(i + 1)))
+                        .posts(post)
+                        .build()))
+                .toList();
+        commentLikesRepository.save(CommentLikes.builder().users(reader).comments(comments.get(0)).build());
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("상세 + 댓글 첫 페이지 - 로그인하면 쿼리 3번 (게시글, 댓글+작성자, 좋아요 여부)")
+    void detail_withComments_fixedQueries() {
+
+        //when
+        statements.reset();
+        PostDetailsResponse response = postsService.detail(post.getId(), Set.of(PostInclude.COMMENTS), reader, COMMENT_SIZE);
+
+        //then
+        assertThat(statements.count()).isEqualTo(3);
+        assertThat(response.getComments()).hasSize(COMMENT_SIZE);
+        assertThat(response.getComments()).extracting(CommentResponse::getNickname).doesNotHaveDuplicates();
+        assertThat(response.getComments().get(0).isLiked()).isTrue();
+        assertThat(response.getComments().get(1).isLiked()).isFalse();
+        assertThat(response.getHasMoreComments()).isTrue();
+        assertThat(response.getNextCommentsUrl())
+                .isEqualTo("/posts/" + post.getId() + "/comments/list?withTotal=false&page=1&size=" + COMMENT_SIZE);
+    }
+
+    @Test
+    @DisplayName("상세 + 댓글 첫 페이지 - 비로그인이면 좋아요 조회 없이 2번, 게시글은 캐시되면 댓글 1번")
+    void detail_withComments_anonymous_andCached() {
+
+        //when
+        statements.reset();
+        postsService.detail(post.getId(), Set.of(PostInclude.COMMENTS), null, COMMENT_SIZE);
+        long first = statements.count();
+
+        entityManager.clear();
+        statements.reset();
+        postsService.detail(post.getId(), Set.of(PostInclude.COMMENTS), null, COMMENTS);
+        long cached = statements.count();
+
+        //then
+        assertThat(first).isEqualTo(2);
+        assertThat(cached).isEqualTo(1);
+    }
+
+    private static Users user(int i) {
+        return Users.builder()
+                .email("user" + i + "@test.com")
+                .password("1234")
+                .nickname("user" + i)
+                .role(Role.USER)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.community.service.cache;
+
+import com.example.community.common.counter.CounterFlushedEvent;
+import com.example.community.common.counter.CounterType;
+import com.example.community.entity.Posts;
+import com.example.community.entity.Role;
+import com.example.community.entity.Users;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostDetailsCacheTest {
+
+    private static final Long POST_ID = 1L;
+
+    private PostDetailsCache cache;
+    private AtomicInteger loads;
+    private Supplier<Posts> finder;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PostDetailsCache(100, 60, new SimpleMeterRegistry());
+        loads = new AtomicInteger();
+        Users writer = Users.builder()
+                .email("writer@test.com")
+                .password("1234")
+                .nickname("writer")
+                .role(Role.USER)
+                .build();
+        finder = () -> {
+            loads.incrementAndGet();
+            return Posts.builder().title("title").content("content").users(writer).build();
+        };
+    }
+
+    @Test
+    @DisplayName("flush 시작 전에 조회가 끝난 캐시 값 - 반영된 델타를 더함 (다시 로딩 안 함)")
+    void flushed_afterLoad_addsDelta() {
+        //given
+        cache.get(POST_ID, finder);
+        long startedAt = System.nanoTime(); // drain
+
+        //when
+        cache.onCounterFlushed(new CounterFlushedEvent(CounterType.POST_VIEW, Map.of(POST_ID, 3L), startedAt));
+
+        //then
+        assertThat(cache.get(POST_ID, finder).getViewCount()).isEqualTo(3L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("flush 시작 뒤에 조회가 끝난 캐시 값 - UPDATE가 이미 들어 있을 수 있으니 더하지 않고 비움")
+    void flushed_loadFinishedAfterDrain_evicts() {
+        //given - drain 뒤에 조회가 끝남 (조회 결과에 이번 UPDATE가 들어 있을 수 있음)
+        long startedAt = System.nanoTime();
+        cache.get(POST_ID, finder);
+
+        //when
+        cache.onCounterFlushed(new CounterFlushedEvent(CounterType.POST_VIEW, Map.of(POST_ID, 3L), startedAt));
+
+        //then - 델타를 두 번 더하지 않고 DB에서 다시 읽음
+        assertThat(cache.get(POST_ID, finder).getViewCount()).isZero();
+        assertThat(loads).hasValue(2);
+    }
+}
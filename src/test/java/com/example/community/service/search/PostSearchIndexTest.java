@@ -0,0 +1,73 @@
+package com.example.community.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostSearchIndexTest {
+
+    @Test
+    @DisplayName("bigram 토큰화 - 한글 단어 안에서만 2글자씩")
+    void tokenize_korean() {
+        assertThat(NgramTokenizer.grams("스프링부트 JPA!"))
+                .containsExactly("스프", "프링", "링부", "부트", "jp", "pa");
+        assertThat(NgramTokenizer.grams("가")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제목 검색 - 부분 일치 + 제목 점수가 높은 순")
+    void search_title_ranked() {
+        // given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "스프링 질문", "내용", 10L, "piney");
+        index.index(2L, "스프링 스프링 정리", "내용", 10L, "piney");
+        index.index(3L, "자바 질문", "스프링 얘기", 11L, "tree");
+
+        // when
+        List<Long> result = index.search("스프링", null, null);
+
+        // then
+        assertThat(result).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("여러 조건 - AND로 검색")
+    void search_multipleFields() {
+        // given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "스프링 질문", "JPA 연관관계", 10L, "piney");
+        index.index(2L, "스프링 질문", "시큐리티 설정", 11L, "tree");
+
+        // when & then
+        assertThat(index.search("질문", "연관관계", null)).containsExactly(1L);
+        assertThat(index.search("질문", null, "tree")).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("수정/삭제/닉네임 변경 - 색인에 바로 반영")
+    void incrementalUpdate() {
+        // given
+        PostSearchIndex index = new PostSearchIndex();
+        index.index(1L, "스프링 질문", "내용", 10L, "piney");
+
+        // when
+        index.index(1L, "자바 질문", "내용", 10L, "piney");
+        index.updateAuthor(10L, "forest");
+
+        // then
+        assertThat(index.search("스프링", null, null)).isEmpty();
+        assertThat(index.search("자바", null, null)).containsExactly(1L);
+        assertThat(index.search(null, null, "piney")).isEmpty();
+        assertThat(index.search(null, null, "forest")).containsExactly(1L);
+
+        // when
+        index.remove(1L);
+
+        // then
+        assertThat(index.search("자바", null, null)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+}
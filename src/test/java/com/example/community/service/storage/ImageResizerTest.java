@@ -0,0 +1,42 @@
+package com.example.community.service.storage;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.awt.image.BufferedImage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageResizerTest {
+
+    @Test
+    @DisplayName("긴 변 기준으로 비율 유지하면서 줄인다")
+    void fitWithinKeepsAspectRatio() {
+        BufferedImage source = new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB);
+
+        BufferedImage resized = ImageResizer.fitWithin(source, 128);
+
+        assertThat(resized.getWidth()).isEqualTo(128);
+        assertThat(resized.getHeight()).isEqualTo(64);
+    }
+
+    @Test
+    @DisplayName("투명도가 있는 이미지는 알파 채널을 유지한다")
+    void fitWithinKeepsAlpha() {
+        BufferedImage source = new BufferedImage(600, 900, BufferedImage.TYPE_INT_ARGB);
+
+        BufferedImage resized = ImageResizer.fitWithin(source, 512);
+
+        assertThat(resized.getColorModel().hasAlpha()).isTrue();
+        assertThat(resized.getHeight()).isEqualTo(512);
+        assertThat(resized.getWidth()).isEqualTo(341);
+    }
+
+    @Test
+    @DisplayName("이미 작은 이미지는 그대로 돌려준다")
+    void fitWithinReturnsSmallImageAsIs() {
+        BufferedImage source = new BufferedImage(100, 80, BufferedImage.TYPE_INT_RGB);
+
+        assertThat(ImageResizer.fitWithin(source, 128)).isSameAs(source);
+    }
+}
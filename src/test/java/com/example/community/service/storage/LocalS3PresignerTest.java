@@ -0,0 +1,99 @@
+package com.example.community.service.storage;
+
+import com.example.community.dto.request.files.LambdaDownloadRequest;
+import com.example.community.dto.request.files.LambdaUploadRequest;
+import com.example.community.dto.response.files.LambdaDownloadResponse;
+import com.example.community.dto.response.files.LambdaUploadResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LocalStack 같은 S3 호환 서버(endpoint override + path-style) 기준으로 서명 URL 모양 확인
+ * 서명은 로컬 계산이라 서버가 떠 있을 필요 없음
+ */
+class LocalS3PresignerTest {
+
+    private static final URI ENDPOINT = URI.create("http://localhost:4566");
+    private static final String BUCKET = "community-test";
+
+    private S3Presigner s3Presigner;
+    private S3Client s3Client;
+    private LocalS3Presigner presigner;
+
+    @BeforeEach
+    void setUp() {
+        StaticCredentialsProvider credentials =
+                StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+        S3Configuration pathStyle = S3Configuration.builder().pathStyleAccessEnabled(true).build();
+
+        s3Presigner = S3Presigner.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(ENDPOINT)
+                .serviceConfiguration(pathStyle)
+                .build();
+        s3Client = S3Client.builder()
+                .region(Region.AP_NORTHEAST_2)
+                .credentialsProvider(credentials)
+                .endpointOverride(ENDPOINT)
+                .serviceConfiguration(pathStyle)
+                .build();
+
+        presigner = new LocalS3Presigner(s3Presigner, s3Client, BUCKET, 600, 3600);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3Presigner.close();
+        s3Client.close();
+    }
+
+    @Test
+    @DisplayName("업로드 - endpoint/bucket/key 경로의 서명된 PUT URL과 접근 URL 반환")
+    void presignUpload() {
+        // given
+        LambdaUploadRequest request = new LambdaUploadRequest(
+                "posts/1/a.png", "image/png", 1024L, "1", 1L, "post-file");
+
+        // when
+        LambdaUploadResponse response = presigner.presignUpload(request);
+
+        // then
+        assertThat(response.getUploadUrl())
+                .startsWith("http://localhost:4566/" + BUCKET + "/posts/1/a.png?")
+                .contains("X-Amz-Signature=")
+                .contains("X-Amz-Expires=600");
+        assertThat(response.getFileUrl()).isEqualTo("http://localhost:4566/" + BUCKET + "/posts/1/a.png");
+        assertThat(response.getKey()).isEqualTo("posts/1/a.png");
+        assertThat(response.getExpireSeconds()).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("다운로드 - 원본 파일명으로 저장되게 content-disposition 포함")
+    void presignDownload() {
+        // given
+        LambdaDownloadRequest request = new LambdaDownloadRequest("posts/1/a.png", "post-file", "내 사진.png");
+
+        // when
+        LambdaDownloadResponse response = presigner.presignDownload(request);
+
+        // then
+        assertThat(response.getDownloadUrl())
+                .startsWith("http://localhost:4566/" + BUCKET + "/posts/1/a.png?")
+                .contains("response-content-disposition=")
+                .contains("X-Amz-Expires=3600");
+        assertThat(response.getExpireSeconds()).isEqualTo(3600L);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.community.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+/**
+ * JPA 테스트에서 JDBC 왕복 횟수 세기 (Hibernate 통계의 prepared statement 수)
+ * 만들 때 통계를 켜고, reset() 이후 나간 statement 수를 count()로
+ */
+public final class StatementCounter {
+
+    private final Statistics statistics;
+
+    public StatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public void reset() {
+        statistics.clear();
+    }
+
+    public long count() {
+        return statistics.getPrepareStatementCount();
+    }
+
+    public long entityInserts() {
+        return statistics.getEntityInsertCount();
+    }
+}